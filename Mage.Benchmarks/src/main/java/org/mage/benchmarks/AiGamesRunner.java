@@ -0,0 +1,276 @@
+package org.mage.benchmarks;
+
+import mage.cards.decks.Deck;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.game.*;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.mulligan.MulliganType;
+import mage.player.ai.*;
+import mage.player.ai.encoder.StateEncoder;
+import mage.players.Player;
+import mage.util.RandomUtil;
+import org.apache.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless AI vs AI games runner for engine throughput measurements (no server, network or GPU).
+ * <p>
+ * Plays N seeded games in-process on the same fixed decks and prints:
+ * games per minute, turns per game, priority decisions per second, game copies per decision
+ * and peak heap (total and per worker).
+ * <p>
+ * Params (key=value, all optional):
+ * games=20 threads=4 playerA=mad playerB=mad skill=4 seed=1 maxTurns=30 deterministic=true
+ * <p>
+ * Deterministic mode (default) replays the same games for the same params, see RandomUtil.setDeterministicSeed
+ * <p>
+ * Player types: simple (pass only), mad (ComputerPlayer7), mcts (ComputerPlayerMCTS),
+ * rl-minimax (ComputerPlayer8), rl-mcts (ComputerPlayerMCTS2 in offline mode)
+ */
+public final class AiGamesRunner {
+
+    private static final Logger logger = Logger.getLogger(AiGamesRunner.class);
+
+    private static final long HEAP_SAMPLE_PERIOD_MS = 100;
+
+    private final int games;
+    private final int threads;
+    private final String playerTypeA;
+    private final String playerTypeB;
+    private final int skill;
+    private final long seed;
+    private final int maxTurns;
+    private final boolean deterministic;
+
+    private AiGamesRunner(Map<String, String> params) {
+        this.games = Integer.parseInt(params.getOrDefault("games", "20"));
+        this.threads = Integer.parseInt(params.getOrDefault("threads", "4"));
+        this.playerTypeA = params.getOrDefault("playerA", "mad");
+        this.playerTypeB = params.getOrDefault("playerB", "mad");
+        this.skill = Integer.parseInt(params.getOrDefault("skill", "4"));
+        this.seed = Long.parseLong(params.getOrDefault("seed", "1"));
+        this.maxTurns = Integer.parseInt(params.getOrDefault("maxTurns", "30"));
+        this.deterministic = Boolean.parseBoolean(params.getOrDefault("deterministic", "true"));
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> params = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Wrong param, must be key=value: " + arg);
+            }
+            params.put(pair[0], pair[1]);
+        }
+
+        int code = 0;
+        try {
+            new AiGamesRunner(params).run();
+        } catch (Exception e) {
+            logger.error("AI games runner failed: " + e.getMessage(), e);
+            code = 1;
+        }
+        // AI players keep static thread pools alive
+        System.exit(code);
+    }
+
+    private void run() throws InterruptedException, GameException {
+        BoardState.prepareCardsDb();
+        // first deck load creates static objects (e.g. singleton abilities), so keep it out of the games ids
+        BoardState.createDeck();
+        // fail fast on wrong player types
+        createPlayer(playerTypeA, "PlayerA");
+        createPlayer(playerTypeB, "PlayerB");
+
+        logger.info(String.format("Starting %d games (%s vs %s, skill %d, seed %d, max turns %d, deterministic %s) on %d workers",
+                games, playerTypeA, playerTypeB, skill, seed, maxTurns, deterministic, threads));
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong peakHeap = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "BENCHMARK-HEAP-SAMPLER");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heapSampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, HEAP_SAMPLE_PERIOD_MS, TimeUnit.MILLISECONDS
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<GameStats>> futures = new ArrayList<>();
+        long copiesBefore = GameImpl.getCopiesCount();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            long gameSeed = seed + i;
+            futures.add(executor.submit(() -> playGame(gameSeed)));
+        }
+
+        List<GameStats> results = new ArrayList<>();
+        int failed = 0;
+        for (Future<GameStats> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                failed++;
+                logger.error("Game failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        long copies = GameImpl.getCopiesCount() - copiesBefore;
+        executor.shutdown();
+        heapSampler.shutdownNow();
+
+        printSummary(results, failed, seconds, copies, peakHeap.get());
+    }
+
+    private GameStats playGame(long gameSeed) throws GameException {
+        if (deterministic) {
+            RandomUtil.setDeterministicSeed(gameSeed);
+        } else {
+            RandomUtil.setSeed(gameSeed);
+        }
+        try {
+            return playSeededGame(gameSeed);
+        } finally {
+            RandomUtil.clearDeterministicSeed();
+        }
+    }
+
+    private GameStats playSeededGame(long gameSeed) throws GameException {
+        // AI simulations need match players (deck access), so it uses a fake match like unit tests
+        Match match = new TwoPlayerMatch(new MatchOptions("benchmark match", "benchmark game type", false));
+        Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ONE, MulliganType.GAME_DEFAULT.getMulligan(0), 40, 20, 7);
+        Player playerA = addPlayer(match, game, createPlayer(playerTypeA, "PlayerA"));
+        Player playerB = addPlayer(match, game, createPlayer(playerTypeB, "PlayerB"));
+        configurePlayer(playerA, playerB);
+        configurePlayer(playerB, playerA);
+
+        GameOptions options = new GameOptions();
+        options.testMode = true;
+        options.stopOnTurn = maxTurns;
+        options.stopAtStep = PhaseStep.END_TURN;
+        game.setGameOptions(options);
+        game.setStartingPlayerId(gameSeed % 2 == 0 ? playerA.getId() : playerB.getId());
+
+        long startTime = System.nanoTime();
+        game.start(null);
+        long nanos = System.nanoTime() - startTime;
+
+        GameStats stats = new GameStats(
+                game.getState().getTurnNum(),
+                game.getState().priorityCounter,
+                nanos,
+                game.hasEnded(),
+                playerA.hasWon()
+        );
+        logger.info(String.format("Game with seed %d: %d turns, %d decisions, %.1f sec%s",
+                gameSeed, stats.turns, stats.decisions, nanos / 1_000_000_000.0,
+                stats.finished ? (stats.playerAWon ? ", PlayerA won" : ", PlayerA lost or draw") : ", turns limit"));
+        return stats;
+    }
+
+    private Player createPlayer(String type, String name) {
+        switch (type) {
+            case "simple":
+                return new ComputerPlayer(name, RangeOfInfluence.ONE);
+            case "mad":
+                return new ComputerPlayer7(name, RangeOfInfluence.ONE, skill);
+            case "mcts":
+                return new ComputerPlayerMCTS(name, RangeOfInfluence.ONE, skill);
+            case "rl-minimax":
+                return new ComputerPlayer8(name, RangeOfInfluence.ONE, skill);
+            case "rl-mcts":
+                return new ComputerPlayerMCTS2(name, RangeOfInfluence.ONE, skill);
+            default:
+                throw new IllegalArgumentException("Unknown player type: " + type
+                        + " (supported: simple, mad, mcts, rl-minimax, rl-mcts)");
+        }
+    }
+
+    private static Player addPlayer(Match match, Game game, Player player) throws GameException {
+        player.setTestMode(true);
+        Deck deck = BoardState.createDeck();
+        game.loadCards(deck.getCards(), player.getId());
+        game.addPlayer(player, deck);
+        match.addPlayer(player, deck);
+        return player;
+    }
+
+    /**
+     * MCTS and RL players need state encoders, RL model is not used (offline mode)
+     */
+    private static void configurePlayer(Player player, Player opponent) {
+        if (player instanceof ComputerPlayerMCTS) {
+            ((ComputerPlayerMCTS) player).stateEncoder = createEncoder(player, opponent);
+            if (player instanceof ComputerPlayerMCTS2) {
+                ((ComputerPlayerMCTS2) player).offlineMode = true;
+            }
+        } else if (player instanceof ComputerPlayer8) {
+            ((ComputerPlayer8) player).setEncoder(createEncoder(opponent, player));
+        }
+    }
+
+    private static StateEncoder createEncoder(Player agent, Player opponent) {
+        StateEncoder encoder = new StateEncoder();
+        encoder.setAgent(agent.getId());
+        encoder.setOpponent(opponent.getId());
+        return encoder;
+    }
+
+    private void printSummary(List<GameStats> results, int failed, double seconds, long copies, long peakHeap) {
+        long turns = 0;
+        long decisions = 0;
+        long gamesNanos = 0;
+        int finished = 0;
+        int winsA = 0;
+        for (GameStats stats : results) {
+            turns += stats.turns;
+            decisions += stats.decisions;
+            gamesNanos += stats.nanos;
+            if (stats.finished) {
+                finished++;
+            }
+            if (stats.playerAWon) {
+                winsA++;
+            }
+        }
+        int played = results.size();
+        StringBuilder sb = new StringBuilder("AI games summary:");
+        sb.append(String.format("%n games: %d played (%d finished, %d by turns limit), %d failed", played, finished, played - finished, failed));
+        sb.append(String.format("%n PlayerA (%s) wins: %d", playerTypeA, winsA));
+        sb.append(String.format("%n total time: %.1f sec", seconds));
+        sb.append(String.format("%n games per minute: %.2f", played * 60 / seconds));
+        sb.append(String.format("%n game time: %.1f sec", played == 0 ? 0 : gamesNanos / 1_000_000_000.0 / played));
+        sb.append(String.format("%n turns per game: %.1f", played == 0 ? 0 : (double) turns / played));
+        sb.append(String.format("%n decisions per second: %.1f", decisions / seconds));
+        sb.append(String.format("%n copies per decision: %.1f", decisions == 0 ? 0 : (double) copies / decisions));
+        sb.append(String.format("%n peak heap: %d MB (%d MB per worker)", peakHeap / 1024 / 1024, peakHeap / 1024 / 1024 / threads));
+        logger.info(sb.toString());
+    }
+
+    private static final class GameStats {
+
+        private final int turns;
+        private final int decisions; // priority decisions of the real game (without AI simulations)
+        private final long nanos;
+        private final boolean finished;
+        private final boolean playerAWon;
+
+        private GameStats(int turns, int decisions, long nanos, boolean finished, boolean playerAWon) {
+            this.turns = turns;
+            this.decisions = decisions;
+            this.nanos = nanos;
+            this.finished = finished;
+            this.playerAWon = playerAWon;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.mage.benchmarks;
+
+import mage.cards.Card;
+import mage.cards.decks.Deck;
+import mage.cards.decks.DeckCardInfo;
+import mage.cards.decks.DeckCardLists;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.game.*;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.mulligan.MulliganType;
+import mage.player.ai.ComputerPlayer;
+import mage.players.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fixed two players game paused at the first turn's precombat main with a given board size.
+ * <p>
+ * All cards load by the normal way (cards db and decks), so the first run creates the cards db.
+ * Players do nothing (pass only), so the same board size gives the same game state.
+ */
+public final class BoardState {
+
+    // battlefield cards for each player (repeats for big boards): lands, mana creatures,
+    // lords (layer effects), activated abilities
+    private static final List<String> BATTLEFIELD = Arrays.asList(
+            "Forest", "Llanowar Elves", "Island", "Grizzly Bears",
+            "Plains", "Glorious Anthem", "Mountain", "Lord of Atlantis",
+            "Forest", "Prodigal Sorcerer", "Island", "Serra Angel",
+            "Plains", "Birds of Paradise", "Mountain", "Merfolk of the Pearl Trident"
+    );
+
+    private static final List<String> HAND = Arrays.asList(
+            "Lightning Bolt", "Giant Growth", "Counterspell", "Divination",
+            "Shivan Dragon", "Llanowar Elves", "Wrath of God"
+    );
+
+    // library, 5 copies of each card
+    private static final List<String> DECK = Arrays.asList(
+            "Forest", "Island", "Plains", "Mountain",
+            "Grizzly Bears", "Serra Angel", "Lightning Bolt", "Divination"
+    );
+    private static final int DECK_COPIES = 5;
+
+    private static boolean cardsDbReady = false;
+
+    private final Game game;
+    private final Player playerA;
+    private final Player playerB;
+
+    private BoardState(Game game, Player playerA, Player playerB) {
+        this.game = game;
+        this.playerA = playerA;
+        this.playerB = playerB;
+    }
+
+    /**
+     * @param permanentsPerPlayer battlefield size for each player
+     */
+    public static BoardState create(int permanentsPerPlayer) throws GameException {
+        prepareCardsDb();
+
+        // game views and AI simulations need match players, so it uses a fake match like unit tests
+        Match match = new TwoPlayerMatch(new MatchOptions("benchmark match", "benchmark game type", false));
+        Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ONE, MulliganType.GAME_DEFAULT.getMulligan(0), 40, 20, 7);
+        Player playerA = createPlayer(match, game, "PlayerA");
+        Player playerB = createPlayer(match, game, "PlayerB");
+
+        // same as unit tests: put cards to zones before game start
+        for (Player player : game.getPlayers().values()) {
+            player.updateRange(game);
+        }
+        for (Player player : game.getPlayers().values()) {
+            List<PutToBattlefieldInfo> battlefield = new ArrayList<>();
+            for (int i = 0; i < permanentsPerPlayer; i++) {
+                battlefield.add(new PutToBattlefieldInfo(createCard(BATTLEFIELD.get(i % BATTLEFIELD.size())), false));
+            }
+            List<Card> hand = new ArrayList<>();
+            for (String cardName : HAND) {
+                hand.add(createCard(cardName));
+            }
+            game.cheat(player.getId(), Collections.emptyList(), hand, battlefield,
+                    Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        }
+
+        GameOptions options = new GameOptions();
+        options.testMode = true;
+        options.skipInitShuffling = true;
+        options.stopOnTurn = 1;
+        options.stopAtStep = PhaseStep.PRECOMBAT_MAIN;
+        game.setGameOptions(options);
+        game.setStartingPlayerId(playerA.getId());
+        game.start(null);
+
+        if (!game.isPaused() || game.getBattlefield().getAllPermanents().size() != permanentsPerPlayer * 2) {
+            throw new IllegalStateException("Wrong benchmark game state: paused " + game.isPaused()
+                    + ", permanents " + game.getBattlefield().getAllPermanents().size());
+        }
+        return new BoardState(game, playerA, playerB);
+    }
+
+    static synchronized void prepareCardsDb() {
+        if (!cardsDbReady) {
+            CardScanner.scan();
+            cardsDbReady = true;
+        }
+    }
+
+    private static Player createPlayer(Match match, Game game, String name) throws GameException {
+        Player player = new ComputerPlayer(name, RangeOfInfluence.ONE);
+        player.setTestMode(true);
+
+        Deck deck = createDeck();
+        game.loadCards(deck.getCards(), player.getId());
+        game.addPlayer(player, deck);
+        match.addPlayer(player, deck);
+        return player;
+    }
+
+    /**
+     * Fixed 40 cards deck (lands, creatures, instants and sorceries)
+     */
+    static Deck createDeck() throws GameException {
+        DeckCardLists list = new DeckCardLists();
+        list.setName("Benchmark deck");
+        for (String cardName : DECK) {
+            CardInfo cardInfo = findCardInfo(cardName);
+            list.getCards().add(new DeckCardInfo(cardInfo.getName(), cardInfo.getCardNumber(), cardInfo.getSetCode(), DECK_COPIES));
+        }
+        return Deck.load(list, false, false);
+    }
+
+    private static CardInfo findCardInfo(String cardName) {
+        CardInfo cardInfo = CardRepository.instance.findPreferredCoreExpansionCard(cardName);
+        if (cardInfo == null) {
+            throw new IllegalStateException("Can't find card in cards db: " + cardName);
+        }
+        return cardInfo;
+    }
+
+    private static Card createCard(String cardName) {
+        return findCardInfo(cardName).createCard();
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Active player with priority
+     */
+    public Player getPlayerA() {
+        return playerA;
+    }
+
+    public Player getPlayerB() {
+        return playerB;
+    }
+}
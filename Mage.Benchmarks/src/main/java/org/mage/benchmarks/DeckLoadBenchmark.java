@@ -0,0 +1,69 @@
+package org.mage.benchmarks;
+
+import mage.cards.CardPrototypes;
+import mage.cards.decks.Deck;
+import mage.cards.decks.DeckCardInfo;
+import mage.cards.decks.DeckCardLists;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.game.GameException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deck loading for a new game (cards from constructor or from card prototypes), same as MageZero's games
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class DeckLoadBenchmark {
+
+    // 60 cards deck, 4 copies of each card: lands, creatures, spells, planeswalkers, double faced and split cards
+    private static final List<String> DECK = Arrays.asList(
+            "Forest", "Island", "Llanowar Elves", "Tarmogoyf", "Brazen Borrower",
+            "Thragtusk", "Delver of Secrets", "Counterspell", "Lightning Bolt", "Fire // Ice",
+            "Jace, the Mind Sculptor", "Oko, Thief of Crowns", "Aven Riftwatcher", "Glorious Anthem", "Serra Angel"
+    );
+    private static final int DECK_COPIES = 4;
+
+    @Param({"false", "true"})
+    public boolean prototypes;
+
+    private DeckCardLists deckList;
+    private final Map<String, CardInfo> cardInfoCache = new HashMap<>();
+    private boolean wasEnabled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BoardState.prepareCardsDb();
+        deckList = new DeckCardLists();
+        deckList.setName("Benchmark deck");
+        for (String cardName : DECK) {
+            CardInfo cardInfo = CardRepository.instance.findCard(cardName);
+            if (cardInfo == null) {
+                throw new IllegalStateException("Can't find card in cards db: " + cardName);
+            }
+            deckList.getCards().add(new DeckCardInfo(cardInfo.getName(), cardInfo.getCardNumber(), cardInfo.getSetCode(), DECK_COPIES));
+        }
+        wasEnabled = CardPrototypes.isEnabled();
+        CardPrototypes.setEnabled(prototypes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        CardPrototypes.setEnabled(wasEnabled);
+    }
+
+    @Benchmark
+    public Deck loadDeck() throws GameException {
+        return Deck.load(deckList, false, false, cardInfoCache);
+    }
+}
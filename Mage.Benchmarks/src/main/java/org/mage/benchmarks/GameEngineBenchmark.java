@@ -0,0 +1,74 @@
+package org.mage.benchmarks;
+
+import mage.abilities.ActivatedAbility;
+import mage.abilities.mana.ManaOptions;
+import mage.game.Game;
+import mage.game.GameException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Engine operations used by AI simulations and playable calculations on each priority
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class GameEngineBenchmark {
+
+    // battlefield size for each player
+    @Param({"4", "16", "48"})
+    public int permanents;
+
+    private BoardState board;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GameException {
+        board = BoardState.create(permanents);
+    }
+
+    @Benchmark
+    public Game copyGame() {
+        return board.getGame().copy();
+    }
+
+    @Benchmark
+    public void applyEffects() {
+        board.getGame().applyEffects();
+    }
+
+    /**
+     * Cached path: the game state doesn't change between calls, so it measures PlayableCache hits only
+     */
+    @Benchmark
+    public List<ActivatedAbility> getPlayable() {
+        return board.getPlayerA().getPlayable(board.getGame(), true);
+    }
+
+    /**
+     * Cold path: full playable calculation (simulation game copy, mana and abilities checks),
+     * like the first call after each game state change
+     */
+    @Benchmark
+    public List<ActivatedAbility> getPlayableCold(EmptyPlayableCache emptyCache) {
+        return board.getPlayerA().getPlayable(board.getGame(), true);
+    }
+
+    @State(Scope.Thread)
+    public static class EmptyPlayableCache {
+
+        @Setup(Level.Invocation)
+        public void clear(GameEngineBenchmark benchmark) {
+            benchmark.board.getGame().getPlayableCache().clear();
+        }
+    }
+
+    @Benchmark
+    public ManaOptions getManaAvailable() {
+        return board.getPlayerA().getManaAvailable(board.getGame());
+    }
+}
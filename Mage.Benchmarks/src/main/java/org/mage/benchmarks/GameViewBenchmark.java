@@ -0,0 +1,135 @@
+package org.mage.benchmarks;
+
+import mage.game.Game;
+import mage.game.GameException;
+import mage.player.ai.encoder.StateEncoder;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import mage.view.GameViewDelta;
+import mage.view.GameViewDeltaEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game state conversions: client views with network compression and AI state encoding
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class GameViewBenchmark {
+
+    // battlefield size for each player
+    @Param({"4", "16", "48"})
+    public int permanents;
+
+    private BoardState board;
+    private GameView gameView;
+    private Object compressedJava;
+    private Object compressedCompact;
+    private GameViewDeltaEncoder deltaEncoder;
+    private StateEncoder encoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GameException {
+        board = BoardState.create(permanents);
+        Game game = board.getGame();
+        gameView = new GameView(game.getState(), game, board.getPlayerA().getId(), null);
+        compressedJava = CompressUtil.compressJava(gameView);
+        compressedCompact = CompressUtil.compressCompact(gameView);
+
+        // first update is full, so benchmarks use next updates
+        deltaEncoder = new GameViewDeltaEncoder();
+        deltaEncoder.encode(gameView);
+
+        encoder = new StateEncoder();
+        encoder.setAgent(board.getPlayerA().getId());
+        encoder.setOpponent(board.getPlayerB().getId());
+    }
+
+    @Benchmark
+    public GameView buildGameView() {
+        return createGameView();
+    }
+
+    private GameView createGameView() {
+        Game game = board.getGame();
+        return new GameView(game.getState(), game, board.getPlayerA().getId(), null);
+    }
+
+    /**
+     * Original network format: java serialization with gzip (ZippedObjectImpl)
+     */
+    @Benchmark
+    public Object compressGameViewJava() {
+        return CompressUtil.compressJava(gameView);
+    }
+
+    /**
+     * Default network format (CompactObjectImpl)
+     */
+    @Benchmark
+    public Object compressGameViewCompact() {
+        return CompressUtil.compressCompact(gameView);
+    }
+
+    @Benchmark
+    public Object decompressGameViewJava() {
+        return CompressUtil.decompress(compressedJava);
+    }
+
+    @Benchmark
+    public Object decompressGameViewCompact() {
+        return CompressUtil.decompress(compressedCompact);
+    }
+
+    /**
+     * GAME_UPDATE format (GameViewDelta): next update without changes, so all cards go as references
+     */
+    @Benchmark
+    public Object compressGameViewDelta(NewGameView newView) {
+        return CompressUtil.compress(deltaEncoder.encode(newView.view));
+    }
+
+    /**
+     * Full view of the already encoded update (new or out of sync client), uses card's data from the delta
+     */
+    @Benchmark
+    public GameViewDelta encodeFullGameViewFromDelta(EncodedGameView encodedView) {
+        return deltaEncoder.encodeFull(encodedView.view, encodedView.version);
+    }
+
+    @State(Scope.Thread)
+    public static class NewGameView {
+
+        private GameView view;
+
+        @Setup(Level.Invocation)
+        public void create(GameViewBenchmark benchmark) {
+            // server makes new views on each update, so card's data can't be reused between updates
+            view = benchmark.createGameView();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class EncodedGameView {
+
+        private GameView view;
+        private long version;
+
+        @Setup(Level.Invocation)
+        public void encode(GameViewBenchmark benchmark) {
+            view = benchmark.createGameView();
+            version = benchmark.deltaEncoder.encode(view).getVersion();
+        }
+    }
+
+    @Benchmark
+    public Set<Integer> encodeState() {
+        return encoder.processState(board.getGame(), board.getPlayerA().getId());
+    }
+}
@@ -0,0 +1,66 @@
+package org.mage.benchmarks;
+
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.game.Game;
+import mage.game.GameException;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * All permanent filters from StaticFilters over the battlefield (compiled predicates)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class StaticFiltersBenchmark {
+
+    // battlefield size for each player
+    @Param({"16", "48", "128"})
+    public int permanents;
+
+    // false - cold path (new effects generation), true - characteristics checks from the memo
+    @Param({"false", "true"})
+    public boolean memoized;
+
+    private BoardState board;
+    private List<FilterPermanent> filters;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GameException, IllegalAccessException {
+        board = BoardState.create(permanents);
+        filters = new ArrayList<>();
+        for (Field field : StaticFilters.class.getFields()) {
+            Object filter = field.get(null);
+            if (filter instanceof FilterPermanent) {
+                filters.add((FilterPermanent) filter);
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearMemo() {
+        if (!memoized) {
+            board.getGame().getState().getFilterMatchCache().clear();
+        }
+    }
+
+    @Benchmark
+    public int countStaticFilters() {
+        Game game = board.getGame();
+        UUID playerId = board.getPlayerA().getId();
+        int found = 0;
+        for (FilterPermanent filter : filters) {
+            found += game.getBattlefield().count(filter, playerId, null, game);
+        }
+        return found;
+    }
+}
@@ -14,6 +14,7 @@ import mage.client.util.GUISizeHelper;
 import mage.client.util.IgnoreList;
 import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
+import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackType;
@@ -30,6 +31,7 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Client side implementation (process commands from a server)
@@ -43,11 +45,13 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private final Map<ClientCallbackType, Integer> lastMessages;
     private final Map<UUID, GameClientMessage> firstGameData;
+    private final Map<UUID, GameViewDeltaDecoder> gameViewDecoders;
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
         this.lastMessages = new HashMap<>();
         this.firstGameData = new HashMap<>();
+        this.gameViewDecoders = new ConcurrentHashMap<>();
         Arrays.stream(ClientCallbackType.values()).forEach(t -> this.lastMessages.put(t, 0));
     }
 
@@ -56,12 +60,28 @@ public class CallbackClientImpl implements CallbackClient {
         // must clean temp data for each new connection
         this.lastMessages.clear();
         this.firstGameData.clear();
+        this.gameViewDecoders.clear();
     }
 
     @Override
     public synchronized void onCallback(final ClientCallback callback) {
         callback.decompressData();
 
+        // delta encoded game updates must be restored in income order, before any other processing
+        if (callback.getData() instanceof GameViewDelta) {
+            GameViewDelta delta = (GameViewDelta) callback.getData();
+            GameView gameView = gameViewDecoders
+                    .computeIfAbsent(callback.getObjectId(), id -> new GameViewDeltaDecoder())
+                    .decode(delta);
+            if (gameView == null) {
+                // lost sync (miss or outdated message), so skip it and ask server for a full view
+                logger.warn("Game view delta lost sync, requesting full view... (possible reason: slow connection)");
+                SwingUtilities.invokeLater(() -> SessionHandler.sendPlayerAction(PlayerAction.CLIENT_REQUEST_FULL_GAME_VIEW, callback.getObjectId(), null));
+                return;
+            }
+            callback.setData(gameView, false);
+        }
+
         // put replay related code here
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
 
@@ -252,6 +272,7 @@ public class CallbackClientImpl implements CallbackClient {
                     }
 
                     case GAME_OVER: {
+                        gameViewDecoders.remove(callback.getObjectId());
                         GameClientMessage message = (GameClientMessage) callback.getData();
                         GamePanel panel = MageFrame.getGame(callback.getObjectId());
                         if (panel != null) {
@@ -0,0 +1,187 @@
+package mage.remote;
+
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.*;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Background writer for JSON game logs (one file per game, one action per line)
+ * <p>
+ * Actions collect in memory and go to the file by timer, by buffer size or on game end,
+ * so file system doesn't slow down user's actions. Finished logs can be compressed to gzip.
+ * <p>
+ * One shared writer per logs dir (single thread and shutdown hook for all sessions), see getInstance
+ */
+public class JsonGameLogWriter {
+
+    private static final Logger logger = Logger.getLogger(JsonGameLogWriter.class);
+
+    private static final int FLUSH_PERIOD_MS = 2000;
+    static final int FLUSH_BUFFER_SIZE = 64 * 1024; // chars
+
+    private static final Map<String, JsonGameLogWriter> writers = new ConcurrentHashMap<>();
+
+    private final File logsDir;
+    private final int flushPeriodMs;
+    private final Map<UUID, GameLog> logs = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService executor = null; // starts on first log
+    private volatile boolean compressFinished = false;
+
+    public static JsonGameLogWriter getInstance(String dir) {
+        return writers.computeIfAbsent(dir, JsonGameLogWriter::new);
+    }
+
+    private JsonGameLogWriter(String dir) {
+        this(dir, FLUSH_PERIOD_MS);
+    }
+
+    JsonGameLogWriter(String dir, int flushPeriodMs) {
+        // for tests only, use getInstance
+        this.logsDir = new File(dir);
+        this.flushPeriodMs = flushPeriodMs;
+    }
+
+    public void append(UUID gameId, String json) {
+        if (gameId == null) {
+            return;
+        }
+        if (executor == null) {
+            // timer flushes must work for small logs too
+            getExecutor();
+        }
+        GameLog log = logs.computeIfAbsent(gameId, GameLog::new);
+        boolean needFlush;
+        synchronized (log) {
+            log.buffer.append(json).append(System.lineSeparator());
+            needFlush = !log.flushRequested && log.buffer.length() >= FLUSH_BUFFER_SIZE;
+            if (needFlush) {
+                log.flushRequested = true;
+            }
+        }
+        if (needFlush) {
+            getExecutor().execute(() -> flush(log));
+        }
+    }
+
+    /**
+     * Write all game's actions and close the log (compress it if enabled)
+     */
+    public void finishGame(UUID gameId) {
+        GameLog log = logs.remove(gameId);
+        if (log != null) {
+            getExecutor().execute(() -> {
+                flush(log);
+                if (compressFinished) {
+                    compress(getLogFile(gameId));
+                }
+            });
+        }
+    }
+
+    /**
+     * Write all buffered actions in background (e.g. on disconnect)
+     */
+    public void flush() {
+        if (!logs.isEmpty()) {
+            getExecutor().execute(this::flushAll);
+        }
+    }
+
+    public void setCompressFinished(boolean compressFinished) {
+        this.compressFinished = compressFinished;
+    }
+
+    public boolean isCompressFinished() {
+        return compressFinished;
+    }
+
+    private synchronized ScheduledExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(
+                    new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CLIENT_JSON_LOG_WRITER)
+            );
+            executor.scheduleWithFixedDelay(this::flushAll, flushPeriodMs, flushPeriodMs, TimeUnit.MILLISECONDS);
+            // writer's thread is daemon, so save last actions on app close
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flushAll));
+        }
+        return executor;
+    }
+
+    private void flushAll() {
+        for (GameLog log : logs.values()) {
+            flush(log);
+        }
+    }
+
+    private void flush(GameLog log) {
+        // file lock keeps actions order between writer and shutdown threads
+        synchronized (log.fileLock) {
+            String data;
+            synchronized (log) {
+                data = log.buffer.toString();
+                log.buffer.setLength(0);
+                log.flushRequested = false;
+            }
+            if (data.isEmpty()) {
+                return;
+            }
+
+            if (!logsDir.exists()) {
+                logsDir.mkdirs();
+            }
+            File logFile = getLogFile(log.gameId);
+            try (Writer out = new BufferedWriter(new FileWriter(logFile, true))) {
+                out.write(data);
+            } catch (IOException e) {
+                logger.error("Cant write JSON game log file - " + logFile, e);
+            }
+        }
+    }
+
+    private void compress(File logFile) {
+        if (!logFile.exists()) {
+            return;
+        }
+        // append mode: multiple gzip members is a valid gzip file (e.g. actions after game end)
+        File gzipFile = new File(logFile.getPath() + ".gz");
+        try (InputStream in = new BufferedInputStream(new FileInputStream(logFile));
+             OutputStream out = new GZIPOutputStream(new FileOutputStream(gzipFile, true))) {
+            byte[] buffer = new byte[8192];
+            int len;
+            while ((len = in.read(buffer)) > 0) {
+                out.write(buffer, 0, len);
+            }
+        } catch (IOException e) {
+            logger.error("Cant compress JSON game log file - " + logFile, e);
+            return;
+        }
+        if (!logFile.delete()) {
+            logger.warn("Cant delete compressed JSON game log file - " + logFile);
+        }
+    }
+
+    File getLogFile(UUID gameId) {
+        return new File(logsDir, "game-" + gameId + ".json");
+    }
+
+    private static final class GameLog {
+
+        private final UUID gameId;
+        private final StringBuilder buffer = new StringBuilder();
+        private final Object fileLock = new Object();
+        private boolean flushRequested = false;
+
+        private GameLog(UUID gameId) {
+            this.gameId = gameId;
+        }
+    }
+}
@@ -75,6 +75,7 @@ public class SessionImpl implements Session {
 
     private boolean canceled = false;
     private boolean jsonLogActive = false;
+    private final JsonGameLogWriter jsonLogWriter = JsonGameLogWriter.getInstance("gamelogsJson");
     private String lastError = "";
 
     public SessionImpl(MageClient client) {
@@ -571,6 +572,7 @@ public class SessionImpl implements Session {
         }
 
         // clean resources
+        jsonLogWriter.flush();
         if (server != null) {
             TransporterClient.destroyTransporterClient(server);
             server = null;
@@ -1011,18 +1013,11 @@ public class SessionImpl implements Session {
     @Override
     public void appendJsonLog(ActionData actionData) {
         if (isJsonLogActive()) {
-            String dir = "gamelogsJson";
-            File saveDir = new File(dir);
-            //Existence check
-            if (!saveDir.exists()) {
-                saveDir.mkdirs();
-            }
             actionData.sessionId = getSessionId();
-            String logFileName = dir + File.separator + "game-" + actionData.gameId + ".json";
-            try (PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(logFileName, true)))) {
-                out.println(actionData.toJson());
-            } catch (IOException e) {
-                logger.error("Cant write JSON game log file - " + logFileName, e);
+            // file writes in background, see JsonGameLogWriter
+            jsonLogWriter.append(actionData.gameId, actionData.toJson());
+            if ("GAME_OVER".equals(actionData.type)) {
+                jsonLogWriter.finishGame(actionData.gameId);
             }
         }
     }
@@ -1788,6 +1783,16 @@ public class SessionImpl implements Session {
         this.jsonLogActive = jsonLogActive;
     }
 
+    @Override
+    public boolean isJsonLogCompressed() {
+        return jsonLogWriter.isCompressFinished();
+    }
+
+    @Override
+    public void setJsonLogCompressed(boolean compressed) {
+        jsonLogWriter.setCompressFinished(compressed);
+    }
+
     private void setLastError(String error) {
         lastError = error;
     }
@@ -15,4 +15,11 @@ public interface ClientData {
     void setJsonLogActive(boolean active);
 
     boolean isJsonLogActive();
+
+    /**
+     * Compress JSON logs of finished games to gzip
+     */
+    void setJsonLogCompressed(boolean compressed);
+
+    boolean isJsonLogCompressed();
 }
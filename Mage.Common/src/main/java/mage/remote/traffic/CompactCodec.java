@@ -0,0 +1,172 @@
+package mage.remote.traffic;
+
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary format for client-server data:
+ * <p>
+ * header: format (1 byte) + raw data size (varint);
+ * <p>
+ * body: {@link CompactObjectOutputStream} data, deflated with fast compression level for big data.
+ * <p>
+ * Buffers and compressors are reused per thread (server sends data from few sender threads)
+ */
+public final class CompactCodec {
+
+    private static final Logger logger = Logger.getLogger(CompactCodec.class);
+
+    static final byte FORMAT_RAW = 0;
+    static final byte FORMAT_DEFLATE = 1;
+
+    // small data is not worth to compress
+    private static final int MIN_COMPRESS_SIZE = 256;
+    // do not keep too big buffers after big data (e.g. full game view in big multiplayer game)
+    private static final int MAX_POOLED_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    private static final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    private CompactCodec() {
+    }
+
+    public static byte[] encode(Object object) throws IOException {
+        Buffers buf = buffers.get();
+        try {
+            PooledOutputStream raw = buf.raw;
+            raw.reset();
+            try (ObjectOutputStream out = new CompactObjectOutputStream(raw)) {
+                out.writeObject(object);
+            }
+
+            PooledOutputStream res = buf.res;
+            res.reset();
+            int rawSize = raw.size();
+            if (rawSize < MIN_COMPRESS_SIZE) {
+                res.write(FORMAT_RAW);
+                writeVarInt(res, rawSize);
+                res.write(raw.getBuffer(), 0, rawSize);
+                return res.toByteArray();
+            }
+
+            res.write(FORMAT_DEFLATE);
+            writeVarInt(res, rawSize);
+            Deflater deflater = buf.deflater;
+            deflater.reset();
+            deflater.setInput(raw.getBuffer(), 0, rawSize);
+            deflater.finish();
+            byte[] chunk = buf.chunk;
+            while (!deflater.finished()) {
+                int count = deflater.deflate(chunk);
+                res.write(chunk, 0, count);
+            }
+            return res.toByteArray();
+        } finally {
+            buf.trim();
+        }
+    }
+
+    public static Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        ByteArrayInputStream in = new ByteArrayInputStream(data);
+        int format = in.read();
+        int rawSize = readVarInt(in);
+        int bodyOffset = data.length - in.available();
+
+        byte[] raw;
+        int rawOffset;
+        switch (format) {
+            case FORMAT_RAW:
+                raw = data;
+                rawOffset = bodyOffset;
+                break;
+            case FORMAT_DEFLATE:
+                raw = new byte[rawSize];
+                rawOffset = 0;
+                Inflater inflater = buffers.get().inflater;
+                inflater.reset();
+                inflater.setInput(data, bodyOffset, data.length - bodyOffset);
+                try {
+                    int count = 0;
+                    while (count < rawSize && !inflater.finished()) {
+                        int read = inflater.inflate(raw, count, rawSize - count);
+                        if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                            break;
+                        }
+                        count += read;
+                    }
+                    if (count != rawSize) {
+                        throw new IOException("Broken data: expected " + rawSize + " bytes, but found " + count);
+                    }
+                } catch (DataFormatException e) {
+                    throw new IOException("Broken data: " + e.getMessage(), e);
+                }
+                break;
+            default:
+                throw new IOException("Unknown data format: " + format);
+        }
+
+        try (ObjectInputStream ois = new CompactObjectInputStream(new ByteArrayInputStream(raw, rawOffset, rawSize))) {
+            return ois.readObject();
+        }
+    }
+
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int readVarInt(ByteArrayInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Broken data: unexpected end of varint");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Broken data: too long varint");
+    }
+
+    private static final class Buffers {
+
+        private PooledOutputStream raw = new PooledOutputStream();
+        private PooledOutputStream res = new PooledOutputStream();
+        private final byte[] chunk = new byte[16 * 1024];
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final Inflater inflater = new Inflater();
+
+        private void trim() {
+            if (raw.getBuffer().length > MAX_POOLED_BUFFER_SIZE) {
+                logger.debug("Compact codec: drop too big buffer " + raw.getBuffer().length);
+                raw = new PooledOutputStream();
+            }
+            if (res.getBuffer().length > MAX_POOLED_BUFFER_SIZE) {
+                res = new PooledOutputStream();
+            }
+        }
+    }
+
+    private static final class PooledOutputStream extends ByteArrayOutputStream {
+
+        private PooledOutputStream() {
+            super(64 * 1024);
+        }
+
+        private byte[] getBuffer() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package mage.remote.traffic;
+
+import java.io.Serializable;
+
+/**
+ * Compressed object in compact binary format, see {@link CompactCodec}.
+ * Can be used to send any {@link Serializable} object over internet to reduce traffic usage.
+ */
+public class CompactObjectImpl<T> implements ZippedObject<T>, Serializable {
+
+    private byte[] data;
+
+    public CompactObjectImpl(T object) {
+        zip(object);
+    }
+
+    @Override
+    public void zip(T object) {
+        try {
+            data = CompactCodec.encode(object);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T unzip() {
+        try {
+            return (T) CompactCodec.decode(data);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    public int getSize() {
+        return data == null ? 0 : data.length;
+    }
+
+    private static final long serialVersionUID = 1L;
+}
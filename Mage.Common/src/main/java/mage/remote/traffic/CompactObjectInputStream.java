@@ -0,0 +1,39 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+
+/**
+ * Reads data from {@link CompactObjectOutputStream}
+ */
+public class CompactObjectInputStream extends ObjectInputStream {
+
+    public CompactObjectInputStream(InputStream in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        String className = readUTF();
+        ObjectStreamClass desc = ObjectStreamClass.lookupAny(findClass(className));
+        if (desc == null) {
+            throw new InvalidClassException(className, "unknown class");
+        }
+        return desc;
+    }
+
+    private static Class<?> findClass(String className) throws ClassNotFoundException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader != null) {
+            try {
+                return Class.forName(className, false, loader);
+            } catch (ClassNotFoundException ignore) {
+                // try default loader
+            }
+        }
+        return Class.forName(className, false, CompactObjectInputStream.class.getClassLoader());
+    }
+}
@@ -0,0 +1,43 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Java serialization with smaller output for client-server data (game views, tables, etc):
+ * <p>
+ * 1. class descriptors are written as class names only (client and server must use the same version, it's
+ * checked on connection), default descriptors contain all field names and types;
+ * <p>
+ * 2. equal strings are written once, next usages are written as back references (card names, rules and
+ * set codes are repeated many times in the game view). Default serialization can do it for the same
+ * string objects only.
+ * <p>
+ * Must be read by {@link CompactObjectInputStream}
+ */
+public class CompactObjectOutputStream extends ObjectOutputStream {
+
+    private final Map<String, String> strings = new HashMap<>();
+
+    public CompactObjectOutputStream(OutputStream out) throws IOException {
+        super(out);
+        enableReplaceObject(true);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+        writeUTF(desc.getName());
+    }
+
+    @Override
+    protected Object replaceObject(Object obj) throws IOException {
+        if (obj instanceof String) {
+            return strings.computeIfAbsent((String) obj, s -> s);
+        }
+        return obj;
+    }
+}
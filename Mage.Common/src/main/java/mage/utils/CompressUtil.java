@@ -1,5 +1,6 @@
 package mage.utils;
 
+import mage.remote.traffic.CompactObjectImpl;
 import mage.remote.traffic.ZippedObject;
 import mage.remote.traffic.ZippedObjectImpl;
 
@@ -14,8 +15,16 @@ public final class CompressUtil {
     private static final String NO_COMPRESS_DATA_PROPERTY = "xmage.network.nocompress";
     private static final boolean compressData;
 
+    // data format for client-server traffic (client can read any format), add java param like -Dxmage.network.codec=java
+    // * compact - compact binary format with fast compression (default)
+    // * java - original java serialization with gzip
+    private static final String CODEC_PROPERTY = "xmage.network.codec";
+    private static final String CODEC_JAVA = "java";
+    private static final boolean useJavaCodec;
+
     static {
         compressData = System.getProperty(NO_COMPRESS_DATA_PROPERTY) == null;
+        useJavaCodec = CODEC_JAVA.equals(System.getProperty(CODEC_PROPERTY));
     }
 
     public static Object decompress(Object data) {
@@ -27,8 +36,16 @@ public final class CompressUtil {
 
     public static Object compress(Object data) {
         if (data != null && compressData) {
-            return new ZippedObjectImpl<>(data);
+            return useJavaCodec ? compressJava(data) : compressCompact(data);
         }
         return data;
     }
+
+    public static Object compressJava(Object data) {
+        return new ZippedObjectImpl<>(data);
+    }
+
+    public static Object compressCompact(Object data) {
+        return new CompactObjectImpl<>(data);
+    }
 }
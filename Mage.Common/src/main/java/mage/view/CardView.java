@@ -145,6 +145,10 @@ public class CardView extends SimpleCardView {
     protected String originalColorIdentity = null; // GUI related info for sorting, searching, etc
     protected boolean originalIsCopy = false;
 
+    // server side only: serialized data and version for delta updates, so the same view
+    // serializes once for all game updates it goes to (e.g. shared delta and full view)
+    private transient GameViewDelta.CardData deltaData = null;
+
     /**
      * Non game usage like deck editor
      *
@@ -1610,6 +1614,14 @@ public class CardView extends SimpleCardView {
         return this.isCreature() || this.getSubTypes().contains(SubType.VEHICLE);
     }
 
+    GameViewDelta.CardData getDeltaData() {
+        return deltaData;
+    }
+
+    void setDeltaData(GameViewDelta.CardData deltaData) {
+        this.deltaData = deltaData;
+    }
+
     public String getIdName() {
         return getName() + " [" + getId().toString().substring(0, 3) + ']';
     }
@@ -0,0 +1,136 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Network: delta encoded game view for GAME_UPDATE events
+ * <p>
+ * Contains serialized {@link GameView} where unchanged cards (same id and version as
+ * in the previous update of the session) are replaced by small references,
+ * see {@link GameViewDeltaEncoder} and {@link GameViewDeltaDecoder}
+ */
+public class GameViewDelta implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final long FULL_VIEW_BASE_VERSION = 0;
+
+    private final long baseVersion;
+    private final long version;
+    private final byte[] data;
+    private final int cardsTotal;
+    private final int cardsSent;
+
+    GameViewDelta(long baseVersion, long version, byte[] data, int cardsTotal, int cardsSent) {
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.data = data;
+        this.cardsTotal = cardsTotal;
+        this.cardsSent = cardsSent;
+    }
+
+    /**
+     * Client's view version to apply that delta to
+     */
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Full view, can be applied without any previous data (e.g. after reconnect or desync)
+     */
+    public boolean isFull() {
+        return baseVersion == FULL_VIEW_BASE_VERSION;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    public int getDataSize() {
+        return data.length;
+    }
+
+    public int getCardsTotal() {
+        return cardsTotal;
+    }
+
+    public int getCardsSent() {
+        return cardsSent;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("delta %d -> %d, cards %d of %d, %d bytes", baseVersion, version, cardsSent, cardsTotal, data.length);
+    }
+
+    /**
+     * Card view's key: object id plus version (hash of the serialized data)
+     */
+    static class CardRef implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final UUID id;
+        private final long version;
+
+        CardRef(UUID id, long version) {
+            this.id = id;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CardRef that = (CardRef) o;
+            return version == that.version && Objects.equals(id, that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, version);
+        }
+
+        @Override
+        public String toString() {
+            return id + " v" + version;
+        }
+    }
+
+    /**
+     * New or changed card view (flat fields, so the inner ref can't be resolved as a known card)
+     */
+    static class CardData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final UUID id;
+        private final long version;
+        private final byte[] data;
+
+        CardData(CardRef ref, byte[] data) {
+            this.id = ref.id;
+            this.version = ref.version;
+            this.data = data;
+        }
+
+        CardRef getRef() {
+            return new CardRef(id, version);
+        }
+
+        byte[] getData() {
+            return data;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package mage.view;
+
+import mage.remote.traffic.CompactObjectInputStream;
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client side: restores full game views from delta encoded updates of one game.
+ * <p>
+ * Each card is deserialized from its own data, so client side changes in a view's
+ * cards (e.g. selection marks) can't leak to next views.
+ */
+public class GameViewDeltaDecoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewDeltaDecoder.class);
+
+    private long version = GameViewDelta.FULL_VIEW_BASE_VERSION;
+    private Map<GameViewDelta.CardRef, byte[]> knownCards = Collections.emptyMap();
+
+    public synchronized void reset() {
+        this.version = GameViewDelta.FULL_VIEW_BASE_VERSION;
+        this.knownCards = Collections.emptyMap();
+    }
+
+    /**
+     * @return full game view or null on desync (client must request full view from the server)
+     */
+    public synchronized GameView decode(GameViewDelta delta) {
+        if (!delta.isFull() && delta.getBaseVersion() != version) {
+            logger.warn("Game view desync: client has version " + version + ", but got " + delta);
+            reset();
+            return null;
+        }
+        try {
+            DeltaInputStream in = new DeltaInputStream(
+                    new ByteArrayInputStream(delta.getData()),
+                    delta.isFull() ? Collections.emptyMap() : knownCards
+            );
+            GameView gameView = (GameView) in.readObject();
+            in.close();
+
+            this.version = delta.getVersion();
+            this.knownCards = in.newKnownCards;
+            return gameView;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("Game view desync: can't decode " + delta + " - " + e);
+            reset();
+            return null;
+        }
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    private static Object deserialize(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new CompactObjectInputStream(new ByteArrayInputStream(data))) {
+            return in.readObject();
+        }
+    }
+
+    private static class DeltaInputStream extends ObjectInputStream {
+
+        private final Map<GameViewDelta.CardRef, byte[]> knownCards;
+        private final Map<GameViewDelta.CardRef, byte[]> newKnownCards = new HashMap<>();
+
+        DeltaInputStream(InputStream in, Map<GameViewDelta.CardRef, byte[]> knownCards) throws IOException {
+            super(in);
+            this.knownCards = knownCards;
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) throws IOException {
+            byte[] data;
+            GameViewDelta.CardRef ref;
+            if (obj instanceof GameViewDelta.CardData) {
+                ref = ((GameViewDelta.CardData) obj).getRef();
+                data = ((GameViewDelta.CardData) obj).getData();
+            } else if (obj instanceof GameViewDelta.CardRef) {
+                ref = (GameViewDelta.CardRef) obj;
+                data = knownCards.get(ref);
+                if (data == null) {
+                    throw new InvalidObjectException("unknown card " + ref);
+                }
+            } else {
+                return obj;
+            }
+            newKnownCards.put(ref, data);
+            try {
+                return deserialize(data);
+            } catch (ClassNotFoundException e) {
+                throw new InvalidObjectException("can't restore card " + ref + ": " + e);
+            }
+        }
+    }
+}
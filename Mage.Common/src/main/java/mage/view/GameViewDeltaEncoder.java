@@ -0,0 +1,139 @@
+package mage.view;
+
+import mage.remote.traffic.CompactObjectOutputStream;
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Server side: makes delta encoded game views for one client session.
+ * <p>
+ * Remembers cards from the last sent view, so next view sends only new and changed
+ * cards. Must be reset on new client init/reconnect or on desync request from
+ * the client, so the next view will be full.
+ */
+public class GameViewDeltaEncoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewDeltaEncoder.class);
+
+    private long version = GameViewDelta.FULL_VIEW_BASE_VERSION;
+    private Set<GameViewDelta.CardRef> sentCards = Collections.emptySet();
+    private boolean fullRequired = true;
+
+    /**
+     * Next view will be full
+     */
+    public synchronized void reset() {
+        this.fullRequired = true;
+        this.sentCards = Collections.emptySet();
+    }
+
+    /**
+     * @return delta or null on errors (send full view instead)
+     */
+    public synchronized GameViewDelta encode(GameView gameView) {
+        long baseVersion = fullRequired ? GameViewDelta.FULL_VIEW_BASE_VERSION : version;
+        Set<GameViewDelta.CardRef> knownCards = fullRequired ? Collections.emptySet() : sentCards;
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            DeltaOutputStream out = new DeltaOutputStream(bos, knownCards);
+            out.writeObject(gameView);
+            out.close();
+
+            this.version++;
+            this.sentCards = out.newSentCards;
+            this.fullRequired = false;
+            return new GameViewDelta(baseVersion, this.version, bos.toByteArray(), out.cardsTotal, out.cardsSent);
+        } catch (IOException e) {
+            logger.error("Can't encode game view delta: " + e, e);
+            reset();
+            return null;
+        }
+    }
+
+    /**
+     * Full view for the already encoded game view, without the encoder's state change.
+     * Lets new clients to join already running updates stream (shared updates for many clients).
+     *
+     * @param version version of the encoded game view
+     * @return full view or null on errors
+     */
+    public GameViewDelta encodeFull(GameView gameView, long version) {
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            DeltaOutputStream out = new DeltaOutputStream(bos, Collections.emptySet());
+            out.writeObject(gameView);
+            out.close();
+            return new GameViewDelta(GameViewDelta.FULL_VIEW_BASE_VERSION, version, bos.toByteArray(), out.cardsTotal, out.cardsSent);
+        } catch (IOException e) {
+            logger.error("Can't encode full game view: " + e, e);
+            return null;
+        }
+    }
+
+    static byte[] serialize(Object object) throws IOException {
+        // each card goes with own data, so use compact class descriptors instead full
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new CompactObjectOutputStream(bos)) {
+            out.writeObject(object);
+        }
+        return bos.toByteArray();
+    }
+
+    private static GameViewDelta.CardData makeCardData(CardView card) throws IOException {
+        // card views don't change after game view creation, so serialize it once per view
+        GameViewDelta.CardData cardData = card.getDeltaData();
+        if (cardData == null) {
+            byte[] data = serialize(card);
+            cardData = new GameViewDelta.CardData(new GameViewDelta.CardRef(card.getId(), makeVersion(data)), data);
+            card.setDeltaData(cardData);
+        }
+        return cardData;
+    }
+
+    private static long makeVersion(byte[] data) {
+        // 64 bits from two different hashes, collision means outdated card on client side
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return ((long) Arrays.hashCode(data) << 32) | crc.getValue();
+    }
+
+    private static class DeltaOutputStream extends ObjectOutputStream {
+
+        private final Set<GameViewDelta.CardRef> knownCards;
+        private final Set<GameViewDelta.CardRef> newSentCards = new HashSet<>();
+        private int cardsTotal = 0;
+        private int cardsSent = 0;
+
+        DeltaOutputStream(OutputStream out, Set<GameViewDelta.CardRef> knownCards) throws IOException {
+            super(out);
+            this.knownCards = knownCards;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (!(obj instanceof CardView)) {
+                return obj;
+            }
+            // top level card views only, inner cards goes inside the card's data
+            GameViewDelta.CardData cardData = makeCardData((CardView) obj);
+            GameViewDelta.CardRef ref = cardData.getRef();
+            cardsTotal++;
+            newSentCards.add(ref);
+            if (knownCards.contains(ref)) {
+                return ref;
+            }
+            cardsSent++;
+            return cardData;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package mage.remote;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonGameLogWriterTest {
+
+    private static final int NO_TIMER_FLUSH_MS = 60 * 60 * 1000;
+    private static final int WAIT_TIMEOUT_MS = 10 * 1000;
+
+    private static final String ACTION = "{\"action\":\"test\"}";
+
+    @TempDir
+    Path logsDir;
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + WAIT_TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("wait for log writer").isLessThan(timeout);
+            Thread.sleep(10);
+        }
+    }
+
+    private static String readFile(File file) {
+        try {
+            return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readGzipFile(File file) throws IOException {
+        try (InputStream in = new GZIPInputStream(new FileInputStream(file));
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[8192];
+            int len;
+            while ((len = in.read(buffer)) > 0) {
+                out.write(buffer, 0, len);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String lines(String action, int amount) {
+        StringBuilder res = new StringBuilder();
+        for (int i = 0; i < amount; i++) {
+            res.append(action).append(System.lineSeparator());
+        }
+        return res.toString();
+    }
+
+    @Test
+    public void test_SharedWriterPerDir() {
+        assertThat(JsonGameLogWriter.getInstance("dir1")).isSameAs(JsonGameLogWriter.getInstance("dir1"));
+        assertThat(JsonGameLogWriter.getInstance("dir1")).isNotSameAs(JsonGameLogWriter.getInstance("dir2"));
+    }
+
+    @Test
+    public void test_FlushByBufferSize() throws InterruptedException {
+        JsonGameLogWriter writer = new JsonGameLogWriter(logsDir.toString(), NO_TIMER_FLUSH_MS);
+        UUID gameId = UUID.randomUUID();
+        File logFile = writer.getLogFile(gameId);
+
+        // small buffer waits for a timer
+        writer.append(gameId, ACTION);
+        Thread.sleep(200);
+        assertThat(logFile).doesNotExist();
+
+        // full buffer goes to file without timer
+        int lineSize = lines(ACTION, 1).length();
+        int needActions = (JsonGameLogWriter.FLUSH_BUFFER_SIZE + lineSize - 1) / lineSize;
+        for (int i = 1; i < needActions; i++) {
+            writer.append(gameId, ACTION);
+        }
+        String expected = lines(ACTION, needActions);
+        waitFor(() -> logFile.exists() && readFile(logFile).equals(expected));
+    }
+
+    @Test
+    public void test_FlushByTimer() throws InterruptedException {
+        JsonGameLogWriter writer = new JsonGameLogWriter(logsDir.toString(), 100);
+        UUID gameId = UUID.randomUUID();
+        File logFile = writer.getLogFile(gameId);
+
+        writer.append(gameId, ACTION);
+        waitFor(() -> logFile.exists() && readFile(logFile).equals(lines(ACTION, 1)));
+
+        // next actions must be appended to same file
+        writer.append(gameId, ACTION);
+        writer.append(gameId, ACTION);
+        waitFor(() -> readFile(logFile).equals(lines(ACTION, 3)));
+    }
+
+    @Test
+    public void test_FinishGame() throws InterruptedException {
+        JsonGameLogWriter writer = new JsonGameLogWriter(logsDir.toString(), NO_TIMER_FLUSH_MS);
+        UUID gameId = UUID.randomUUID();
+        UUID otherGameId = UUID.randomUUID();
+        File logFile = writer.getLogFile(gameId);
+
+        writer.append(gameId, ACTION);
+        writer.append(otherGameId, ACTION);
+        writer.finishGame(gameId);
+        waitFor(() -> logFile.exists() && readFile(logFile).equals(lines(ACTION, 1)));
+
+        // other games keep buffer until timer or game end
+        Thread.sleep(200);
+        assertThat(writer.getLogFile(otherGameId)).doesNotExist();
+    }
+
+    @Test
+    public void test_FinishGameCompressed() throws InterruptedException, IOException {
+        JsonGameLogWriter writer = new JsonGameLogWriter(logsDir.toString(), NO_TIMER_FLUSH_MS);
+        writer.setCompressFinished(true);
+        UUID gameId = UUID.randomUUID();
+        File logFile = writer.getLogFile(gameId);
+        File gzipFile = new File(logFile.getPath() + ".gz");
+
+        writer.append(gameId, ACTION);
+        writer.append(gameId, ACTION);
+        writer.finishGame(gameId);
+        waitFor(() -> gzipFile.exists() && !logFile.exists());
+        assertThat(readGzipFile(gzipFile)).isEqualTo(lines(ACTION, 2));
+    }
+}
@@ -99,22 +99,28 @@ public class Config {
         public final int timeoutMs;
         public final double tdDiscount;
         public final boolean offlineMode;
+        public final double fullSearchFraction; // playout cap randomization: part of decisions with full search (recorded)
+        public final int fastSearchBudget; // budget of other (not recorded) decisions
 
         public MctsConfig(Map<String, Object> raw) {
             this.searchBudget = ((Number) raw.getOrDefault("search_budget", 300)).intValue();
             this.timeoutMs = ((Number) raw.getOrDefault("timeout_ms", 4000)).intValue();
             this.tdDiscount = ((Number) raw.getOrDefault("td_discount", 0.95)).doubleValue();
             this.offlineMode = (boolean) raw.getOrDefault("offline_mode", false);
+            this.fullSearchFraction = ((Number) raw.getOrDefault("full_search_fraction", 1.0)).doubleValue();
+            this.fastSearchBudget = ((Number) raw.getOrDefault("fast_search_budget", 50)).intValue();
         }
     }
 
     public static class GameplayConfig {
         public final boolean mulligans;
         public final boolean manualTap;
+        public final boolean groupManaActions; // manual tapping: equivalent mana abilities are one search option
 
         public GameplayConfig(Map<String, Object> raw) {
             this.mulligans = (boolean) raw.getOrDefault("mulligans_enabled", true);
             this.manualTap = (boolean) raw.getOrDefault("manual_tapping", true);
+            this.groupManaActions = (boolean) raw.getOrDefault("group_mana_actions", false);
         }
     }
     public static class HiddenInfoConfig {
@@ -131,6 +137,11 @@ public class Config {
         public int maxTurns;
         public int threads;
         public final boolean trainOpponentHead;
+        public final boolean deterministic; // same seed, decks and config replay the identical games
+        public final long seed; // first game's seed in deterministic mode, next games use seed + game number
+        public final double resignThreshold; // end the game by MCTS root value beyond it (0 - disabled)
+        public final int resignDecisions; // consecutive decisions beyond the threshold to resign
+        public final double resignHoldout; // part of games without resignation (to measure false resignations)
 
         public TrainingConfig(Map<String, Object> raw) {
             this.games = ((Number) raw.getOrDefault("games", 1000)).intValue();
@@ -138,6 +149,11 @@ public class Config {
             this.maxTurns = ((Number) raw.getOrDefault("max_turns", 50)).intValue();
             this.threads = ((Number) raw.getOrDefault("threads", 2)).intValue();
             this.trainOpponentHead = (boolean) raw.getOrDefault("train_opponent_head", false);
+            this.deterministic = (boolean) raw.getOrDefault("deterministic", false);
+            this.seed = ((Number) raw.getOrDefault("seed", 0)).longValue();
+            this.resignThreshold = ((Number) raw.getOrDefault("resign_threshold", 0)).doubleValue();
+            this.resignDecisions = ((Number) raw.getOrDefault("resign_decisions", 3)).intValue();
+            this.resignHoldout = ((Number) raw.getOrDefault("resign_holdout", 0.1)).doubleValue();
         }
     }
 
@@ -1,5 +1,6 @@
 package org.mage.magezero;
 
+import mage.cards.CardPrototypes;
 import mage.cards.decks.Deck;
 import mage.cards.decks.DeckCardLists;
 import mage.cards.decks.importer.DeckImporter;
@@ -50,6 +51,11 @@ public class ParallelDataGenerator {
     private final FeatureMap seenFeatures = new FeatureMap();
     public final AtomicInteger gameCount = new AtomicInteger(0);
     public final AtomicInteger winCount = new AtomicInteger(0);
+    // value based resignation stats
+    public final AtomicInteger resignedGames = new AtomicInteger(0);
+    public final AtomicInteger holdoutGames = new AtomicInteger(0);
+    public final AtomicInteger holdoutAdjudicatedGames = new AtomicInteger(0);
+    public final AtomicInteger falseResignations = new AtomicInteger(0);
     protected RemoteModelEvaluator remoteModelEvaluatorA = null;
     protected RemoteModelEvaluator remoteModelEvaluatorB = null;
     private final BlockingQueue<GameResult> LSQueue = new ArrayBlockingQueue<>(32);
@@ -87,6 +93,10 @@ public class ParallelDataGenerator {
         //reset counts
         winCount.set(0);
         gameCount.set(0);
+        resignedGames.set(0);
+        holdoutGames.set(0);
+        holdoutAdjudicatedGames.set(0);
+        falseResignations.set(0);
 
 
         String modelUrlA = "http://" + Config.INSTANCE.server.host + ":" + Config.INSTANCE.server.port;
@@ -104,6 +114,32 @@ public class ParallelDataGenerator {
             remoteModelEvaluatorB = null;
         }
         Features.useFeatureMap = Config.INSTANCE.logging.logFeatureHash;
+
+        // same decks in thousands of games, so create cards by copy instead reflection
+        CardPrototypes.setEnabled(true);
+
+        if (Config.INSTANCE.training.deterministic) {
+            warmUpDecks();
+        }
+    }
+
+    /**
+     * Deterministic mode: first deck load creates static objects (singleton abilities, card prototypes),
+     * so do it before the games to keep ids sequence the same for all games
+     */
+    private void warmUpDecks() {
+        try {
+            for (String deckPath : Arrays.asList(Config.INSTANCE.playerA.deckPath, Config.INSTANCE.playerB.deckPath)) {
+                DeckCardLists list = loadedDecks.get(deckPath);
+                if (list == null) {
+                    list = DeckImporter.importDeckFromFile(deckPath, true);
+                    loadedDecks.put(deckPath, list);
+                }
+                Deck.load(list, false, false, loadedCardInfo);
+            }
+        } catch (GameException e) {
+            logger.warn("Can't warm up decks for deterministic mode: " + e.getMessage());
+        }
     }
     public void print_known_feature_map() {
         try {
@@ -226,10 +262,13 @@ public class ParallelDataGenerator {
         ExecutorService executor = Executors.newFixedThreadPool(poolSize);
         List<Callable<GameResult>> tasks = new ArrayList<>();
         for (int i = 0; i < numGames; i++) {
+            final int gameNumber = i;
             tasks.add(new Callable<GameResult>() {
                 @Override
                 public GameResult call() throws Exception {
-                    GameResult out = runSingleGame();
+                    GameResult out = Config.INSTANCE.training.deterministic
+                            ? runSingleGame(Config.INSTANCE.training.seed + gameNumber)
+                            : runSingleGame();
                     LSQueue.put(out);
                     return out;
                 }
@@ -268,6 +307,11 @@ public class ParallelDataGenerator {
         logger.info(String.format("Successful: %d", successfulGames));
         logger.info(String.format("Failed: %d", failedGames));
         logger.info(String.format("Player A win rate: %.2f%% (%d/%d)", (100.0 * wins / numGames), wins, numGames));
+        if (Config.INSTANCE.training.resignThreshold > 0) {
+            logger.info(String.format("Resigned games: %d, holdout games: %d, false resignations: %d/%d",
+                    resignedGames.get(), holdoutGames.get(), falseResignations.get(), holdoutAdjudicatedGames.get()));
+        }
+        logger.info(PlayableCache.getTotalStatistics());
     }
     private GameResult runSingleGame() throws ExecutionException {
         long seed = ThreadLocalRandom.current().nextLong();
@@ -282,7 +326,12 @@ public class ParallelDataGenerator {
 
             // Use a thread-safe random number generator for the seed.
             logger.info("Using seed: " + gameSeed);
-            RandomUtil.setSeed(gameSeed);
+            if (Config.INSTANCE.training.deterministic) {
+                // must be set before any game object creation (ids)
+                RandomUtil.setDeterministicSeed(gameSeed);
+            } else {
+                RandomUtil.setSeed(gameSeed);
+            }
 
 
 
@@ -319,7 +368,9 @@ public class ParallelDataGenerator {
                 game.setStartingPlayerId(playerB.getId());
             } else {
                 int dieRoll;
-                if(gameCount.get()==0) {
+                if (Config.INSTANCE.training.deterministic) {
+                    dieRoll = (int) Math.floorMod(gameSeed, 2L);
+                } else if(gameCount.get()==0) {
                     dieRoll = (int)(Thread.currentThread().getId()%2);
                 } else {
                     dieRoll = gameCount.get() % 2;
@@ -332,8 +383,15 @@ public class ParallelDataGenerator {
                     game.setStartingPlayerId(playerB.getId());
                 }
             }
+            // holdout games never resign, so the false resignation rate can be measured (same games for same seeds)
+            boolean holdout = new Random(gameSeed).nextDouble() < Config.INSTANCE.training.resignHoldout;
+            configureResignation(playerA, holdout);
+            configureResignation(playerB, holdout);
+
             game.start(null);
+            // resigned game's result is the adjudicated result, so TD labels use it as a normal game end
             boolean playerAWon = playerA.hasWon();
+            collectResignationStats(game, holdout, playerA, playerB);
             //merge to the final features
             synchronized (seenFeatures) {
                 seenFeatures.merge(threadEncoderA.featureMap);
@@ -348,6 +406,46 @@ public class ParallelDataGenerator {
             logger.error("Caught an internal AI/Game exception in a worker thread. Ignoring this game. Cause: " + e.getMessage());
             e.printStackTrace();
             throw new ExecutionException("Worker thread failed - ignoring", e);
+        } finally {
+            RandomUtil.clearDeterministicSeed();
+        }
+    }
+
+    private void configureResignation(Player player, boolean holdout) {
+        if (player.getRealPlayer() instanceof ComputerPlayerMCTS2) {
+            ComputerPlayerMCTS2 mcts2 = (ComputerPlayerMCTS2) player.getRealPlayer();
+            mcts2.resignThreshold = Config.INSTANCE.training.resignThreshold;
+            mcts2.resignDecisions = Config.INSTANCE.training.resignDecisions;
+            mcts2.resignHoldout = holdout;
+        }
+    }
+
+    private void collectResignationStats(Game game, boolean holdout, Player... players) {
+        if (Config.INSTANCE.training.resignThreshold <= 0) {
+            return;
+        }
+        UUID loserId = null;
+        boolean resigned = false;
+        for (Player player : players) {
+            if (player.getRealPlayer() instanceof ComputerPlayerMCTS2) {
+                ComputerPlayerMCTS2 mcts2 = (ComputerPlayerMCTS2) player.getRealPlayer();
+                if (loserId == null) {
+                    loserId = mcts2.getAdjudicatedLoserId();
+                }
+                resigned |= mcts2.isResigned();
+            }
+        }
+        if (resigned) {
+            resignedGames.incrementAndGet();
+        }
+        if (holdout) {
+            holdoutGames.incrementAndGet();
+            if (loserId != null) {
+                holdoutAdjudicatedGames.incrementAndGet();
+                if (game.getPlayer(loserId).hasWon()) {
+                    falseResignations.incrementAndGet();
+                }
+            }
         }
     }
 
@@ -364,8 +462,11 @@ public class ParallelDataGenerator {
                 mcts2.noNoise = !Config.INSTANCE.playerA.noise.enabled;
                 mcts2.allowMulligans = Config.INSTANCE.playerA.gameplay.mulligans;
                 mcts2.searchBudget = Config.INSTANCE.playerA.mcts.searchBudget;
+                mcts2.fullSearchFraction = Config.INSTANCE.playerA.mcts.fullSearchFraction;
+                mcts2.fastSearchBudget = Config.INSTANCE.playerA.mcts.fastSearchBudget;
                 mcts2.searchTimeout = (double) Config.INSTANCE.playerA.mcts.timeoutMs /1000;
                 mcts2.autoTap = !Config.INSTANCE.playerA.gameplay.manualTap;
+                mcts2.groupManaActions = Config.INSTANCE.playerA.gameplay.groupManaActions;
                 if(remoteModelEvaluatorA == null || Config.INSTANCE.playerA.mcts.offlineMode) mcts2.offlineMode = true;
             } else {
                 mcts2.nn = remoteModelEvaluatorB;
@@ -376,8 +477,11 @@ public class ParallelDataGenerator {
                 mcts2.noNoise = !Config.INSTANCE.playerB.noise.enabled;
                 mcts2.allowMulligans = Config.INSTANCE.playerB.gameplay.mulligans;
                 mcts2.searchBudget = Config.INSTANCE.playerB.mcts.searchBudget;
+                mcts2.fullSearchFraction = Config.INSTANCE.playerB.mcts.fullSearchFraction;
+                mcts2.fastSearchBudget = Config.INSTANCE.playerB.mcts.fastSearchBudget;
                 mcts2.searchTimeout = (double) Config.INSTANCE.playerB.mcts.timeoutMs /1000;
                 mcts2.autoTap = !Config.INSTANCE.playerB.gameplay.manualTap;
+                mcts2.groupManaActions = Config.INSTANCE.playerB.gameplay.groupManaActions;
                 if(remoteModelEvaluatorB == null || Config.INSTANCE.playerB.mcts.offlineMode) mcts2.offlineMode = true;
             }
         } else if (player.getRealPlayer() instanceof ComputerPlayer8) {
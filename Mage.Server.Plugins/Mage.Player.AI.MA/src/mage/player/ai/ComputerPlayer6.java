@@ -445,7 +445,8 @@ public class ComputerPlayer6 extends ComputerPlayer {
         //  multithreading do not supported here
         // run new game simulation in parallel thread
         //assert (threadPoolSimulations != null);
-        FutureTask<Integer> task = new FutureTask<>(() -> addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        // simulation thread must keep deterministic mode of the game
+        FutureTask<Integer> task = new FutureTask<>(RandomUtil.wrapDeterministic(() -> addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE)));
         threadPoolSimulations.execute(task);
         try {
             int maxSeconds = maxThinkTimeSecs;
@@ -9,6 +9,7 @@ import mage.player.ai.encoder.StateEncoder;
 import mage.player.ai.score.GameStateEvaluator2;
 import mage.players.Player;
 import mage.players.PlayerScript;
+import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
 import java.util.*;
@@ -38,6 +39,21 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
     public transient RemoteModelEvaluator nn;
     MCTSNode2 root;
 
+    /**resignation (adjudication): root value beyond the threshold for resignDecisions consecutive decisions ends the game.
+    losing value - player concedes, winning value - opponent concedes. 0 - disabled*/
+    public double resignThreshold = 0;
+    public int resignDecisions = 3;
+    /**holdout game: never resign, only remember the adjudication to measure false resignations*/
+    public boolean resignHoldout = false;
+    /**playout cap randomization: only this part of decisions gets the full search and is recorded as a training sample,
+    other decisions use fast search with fastSearchBudget (no noise, not recorded) to move the game forward. 1 - disabled*/
+    public double fullSearchFraction = 1.0;
+    public int fastSearchBudget = 50;
+    private boolean fullSearch = true;
+    private int resignCounter = 0; // consecutive decisions beyond the threshold: positive - winning, negative - losing
+    private UUID adjudicatedLoserId = null;
+    private boolean resigned = false;
+
 
 
     public ComputerPlayerMCTS2(String name, RangeOfInfluence range, int skill) {
@@ -54,6 +70,11 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
         nn = player.nn;
         offlineMode = player.offlineMode;
         defaultURL = player.defaultURL;
+        resignThreshold = player.resignThreshold;
+        resignDecisions = player.resignDecisions;
+        resignHoldout = player.resignHoldout;
+        fullSearchFraction = player.fullSearchFraction;
+        fastSearchBudget = player.fastSearchBudget;
     }
     public void RLInit(Game game) {
         logger.info("RL init for " + getName() + " (MZ ver1.0.2)");
@@ -79,8 +100,47 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
         if (game.getTurnStepType() == PhaseStep.END_TURN) {
             GameStateEvaluator2.printBattlefield(game, game.getActivePlayerId());
         }
+        if (adjudicatedLoserId != null && !resignHoldout && !resigned) {
+            resigned = true;
+            logger.info("adjudicated by root value, conceding player: " + game.getPlayer(adjudicatedLoserId).getName());
+            game.concede(adjudicatedLoserId);
+            pass(game);
+            return false;
+        }
         return super.priority(game);
     }
+
+    /**
+     * count consecutive decisions with decided root value (from this player's point of view)
+     */
+    private void checkResignation(Game game, double rootValue) {
+        if (resignThreshold <= 0 || adjudicatedLoserId != null) {
+            return;
+        }
+        if (rootValue <= -resignThreshold) {
+            resignCounter = Math.min(resignCounter, 0) - 1;
+        } else if (rootValue >= resignThreshold) {
+            resignCounter = Math.max(resignCounter, 0) + 1;
+        } else {
+            resignCounter = 0;
+        }
+        if (Math.abs(resignCounter) >= resignDecisions) {
+            adjudicatedLoserId = resignCounter < 0 ? playerId : game.getOpponent(playerId).getId();
+            logger.info(String.format("root value %.3f for %d decisions, adjudicated loser: %s%s", rootValue, resignDecisions,
+                    game.getPlayer(adjudicatedLoserId).getName(), resignHoldout ? " (holdout game, no resignation)" : ""));
+        }
+    }
+
+    /**
+     * @return player who lost by root value (in holdout games the game continues), null if not adjudicated
+     */
+    public UUID getAdjudicatedLoserId() {
+        return adjudicatedLoserId;
+    }
+
+    public boolean isResigned() {
+        return resigned;
+    }
     /**
      * core MCTS search implementation, with legality and transposition pruning
      */
@@ -97,7 +157,8 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
         double totalThinkTimeThisMove = 0;
 
         // Apply dirichlet noise once at the start of the search for this turn
-        if(!noNoise) root.randomizeNoiseSeed();
+        if(!noNoise && fullSearch) root.randomizeNoiseSeed();
+        int budget = fullSearch ? searchBudget : fastSearchBudget;
 
         long startTime = System.nanoTime();
         long endTime = (long) (startTime + (searchTimeout * 1_000_000_000L));
@@ -105,6 +166,8 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
         int simCount = 0;
         int illegalPurged = 0;
         int duplicatePurged = 0;
+        // deterministic replays: search by budget only and evaluate nodes one by one (no batcher timings)
+        boolean deterministic = RandomUtil.isDeterministic();
 
 
         while (true) {
@@ -113,11 +176,11 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
                 break;
             }
             if(root.containsLegalNode()) { //can only exit search if the tree contains a priority node (meaning a future legal state)
-                if (System.nanoTime() > endTime) {
+                if (!deterministic && System.nanoTime() > endTime) {
                     logger.info("timed out, ending search");
                     break;
                 }
-                if (simCount + childVisits >= searchBudget) {
+                if (simCount + childVisits >= budget) {
                     logger.info("required visits reached, ending search");
                     break;
                 }
@@ -175,6 +238,9 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
             if (!current.isTerminal()) {
                 // eval
                 current.evaluate();
+                if (deterministic) {
+                    current.awaitEvaluation();
+                }
                 //expand
                 current.expand();
                 //temporary result
@@ -252,6 +318,7 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
     }
     @Override
     protected MCTSNode calculateActions(Game game, ActionEncoder.ActionType action) {
+        fullSearch = fullSearchFraction >= 1.0 || RandomUtil.nextDouble() < fullSearchFraction;
         applyMCTS(game, action);
 
         MCTSNode best = root.bestChild(game);
@@ -261,7 +328,9 @@ public class ComputerPlayerMCTS2 extends ComputerPlayerMCTS {
         }
         int[] actionVec = getActionVec(root, game);
 
-        if(actionVec != null) stateEncoder.addLabeledState(root.stateVector, actionVec, root.getMeanScore(), action, true);
+        // fast searches have poor policy targets, so only full searches become training samples
+        if(actionVec != null && fullSearch) stateEncoder.addLabeledState(root.stateVector, actionVec, root.getMeanScore(), action, true);
+        if(action.equals(ActionEncoder.ActionType.PRIORITY) && !allMana) checkResignation(game, root.getMeanScore());
 
         return best;
 
@@ -5,6 +5,7 @@ import mage.abilities.*;
 import mage.abilities.common.PassAbility;
 import mage.abilities.costs.mana.*;
 import mage.abilities.mana.ActivatedManaAbilityImpl;
+import mage.abilities.mana.ManaAbility;
 import mage.abilities.mana.ManaOptions;
 import mage.cards.Card;
 import mage.cards.Cards;
@@ -65,6 +66,8 @@ public class ComputerPlayer extends PlayerImpl {
     public boolean allowMulligans = false;
     //determines whether agent taps manually or uses the XMage auto tapper.
     public boolean autoTap = true;
+    //manual tapping: equivalent mana abilities (same resulting mana pool and untapped permanents) are one priority option
+    public boolean groupManaActions = false;
 
     private static final Logger logger = Logger.getLogger(ComputerPlayer.class);
 
@@ -124,6 +127,7 @@ public class ComputerPlayer extends PlayerImpl {
         numOptionsSize = player.numOptionsSize;
         allowMulligans = player.allowMulligans;
         autoTap = player.autoTap;
+        groupManaActions = player.groupManaActions;
     }
 
     @Override
@@ -1550,6 +1554,7 @@ public class ComputerPlayer extends PlayerImpl {
             numOptionsSize = cPlayer.numOptionsSize;
             allowMulligans = cPlayer.allowMulligans;
             autoTap = cPlayer.autoTap;
+            groupManaActions = cPlayer.groupManaActions;
         }
         this.human = false;
     }
@@ -1664,12 +1669,17 @@ public class ComputerPlayer extends PlayerImpl {
         // Battlefield (activated abilities and special actions)
         Map<String, ActivatedAbility> unique = new HashMap<>();
         List<ActivatedAbility> activatedAll = new ArrayList<>();
+        Set<String> manaActions = new HashSet<>();
         for (Permanent permanent : game.getBattlefield().getAllActivePermanents()) {
             boolean canUseActivated = permanent.canUseActivatedAbilities(game);
             List<ActivatedAbility> current = new ArrayList<>();
             getPlayableFromObjectAll(game, Zone.BATTLEFIELD, permanent, availableMana, current);
             for (ActivatedAbility a : current) {
                 if (a instanceof SpecialAction || canUseActivated) {
+                    if (groupManaActions && a.isManaAbility() && !manaActions.add(getManaActionKey(permanent, a, game))) {
+                        // same payment outcome as the already added ability (e.g. tap another Forest)
+                        continue;
+                    }
                     unique.putIfAbsent(a.toString(), a);
                     activatedAll.add(a);
                 }
@@ -1705,6 +1715,37 @@ public class ComputerPlayer extends PlayerImpl {
         // Return copies to avoid sim coupling
         return playable.stream().map(ActivatedAbility::copy).collect(Collectors.toList());
     }
+    /**
+     * Mana abilities with the same key give the same mana pool and equivalent untapped permanents
+     */
+    private static String getManaActionKey(Permanent permanent, ActivatedAbility ability, Game game) {
+        if (!permanent.getAttachments().isEmpty()) {
+            // attachments can change the mana (e.g. Wild Growth or Utopia Sprawl with a chosen color), so never group it
+            return ability.getId().toString();
+        }
+        // same ability can give different mana by permanent's choices (e.g. Thriving Grove with a chosen color)
+        String netMana = "";
+        if (ability instanceof ManaAbility) {
+            List<Mana> mana = ((ManaAbility) ability).getNetMana(game);
+            if (mana.stream().anyMatch(ConditionalMana.class::isInstance)) {
+                // conditions can use permanent's choices too (e.g. Cavern of Souls with a chosen creature type), so never group it
+                return ability.getId().toString();
+            }
+            netMana = mana.stream()
+                    .map(Mana::toString)
+                    .sorted()
+                    .collect(Collectors.joining(","));
+        }
+        return permanent.getName()
+                + '|' + ability.getRule()
+                + '|' + netMana
+                + '|' + permanent.getPower().getValue() + '/' + permanent.getToughness().getValue()
+                + '|' + permanent.getCounters(game).values().stream()
+                .map(counter -> counter.getName() + '=' + counter.getCount())
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
     //TODO: make this more efficient
     @Deprecated
     public List<Ability> getPlayableOptions(Game game) {
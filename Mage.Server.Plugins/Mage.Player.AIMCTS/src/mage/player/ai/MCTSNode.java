@@ -12,7 +12,6 @@ import mage.players.Player;
 import mage.players.PlayerScript;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
-import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.math3.distribution.GammaDistribution;
@@ -615,7 +614,7 @@ public class MCTSNode {
             probabilities.set(i, probabilities.get(i) / distributionSum);
         }
 
-        double randomValue = new Random().nextDouble();
+        double randomValue = RandomUtil.nextDouble();
         double cumulativeProbability = 0.0;
         for (int i = 0; i < children.size(); i++) {
             cumulativeProbability += probabilities.get(i);
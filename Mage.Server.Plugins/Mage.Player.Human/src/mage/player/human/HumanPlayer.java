@@ -334,14 +334,20 @@ public class HumanPlayer extends PlayerImpl {
             responseOpenedForAnswer = true;
 
             loop = false;
-            synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
-                try {
-                    response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
-                } catch (InterruptedException ignore) {
-                } finally {
-                    responseOpenedForAnswer = false;
-                    game.pauseTimer(getTurnControlledBy());
+            // free game's execution slot for other games until the answer
+            GameExecutionSlots.park();
+            try {
+                synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
+                    try {
+                        response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
+                    } catch (InterruptedException ignore) {
+                    } finally {
+                        responseOpenedForAnswer = false;
+                        game.pauseTimer(getTurnControlledBy());
+                    }
                 }
+            } finally {
+                GameExecutionSlots.resume();
             }
 
             // async command: concede by any player
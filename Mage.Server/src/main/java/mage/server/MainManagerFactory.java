@@ -6,6 +6,7 @@ import mage.server.game.GamesRoomManagerImpl;
 import mage.server.game.ReplayManagerImpl;
 import mage.server.managers.*;
 import mage.server.tournament.TournamentManagerImpl;
+import mage.server.util.ServerMetrics;
 import mage.server.util.ThreadExecutorImpl;
 import org.apache.log4j.Logger;
 
@@ -26,6 +27,9 @@ public class MainManagerFactory implements ManagerFactory {
     // TODO: add debug menu like "call client side disconnect in 10 seconds"
     private static final int SERVER_HEALTH_CHECK_TIMEOUT_MINS = 10;
 
+    // defines how often server metrics must be logged (in minutes), also available by JMX
+    private static final int SERVER_METRICS_LOG_TIMEOUT_MINS = 5;
+
     private final ConfigSettings configSettings;
     private final ThreadExecutor threadExecutor;
     private final ChatManager chatManager;
@@ -82,6 +86,17 @@ public class MainManagerFactory implements ManagerFactory {
                 logger.fatal("Server health check: catch unknown error - " + ex, ex);
             }
         }, SERVER_HEALTH_CHECK_TIMEOUT_MINS, SERVER_HEALTH_CHECK_TIMEOUT_MINS, TimeUnit.MINUTES);
+
+        ServerMetrics.instance.registerExecutors(threadExecutor());
+        ServerMetrics.instance.registerCallbackQueues();
+        ServerMetrics.instance.registerMBean();
+        threadExecutor().getServerHealthExecutor().scheduleAtFixedRate(() -> {
+            try {
+                ServerMetrics.instance.logSummary();
+            } catch (Exception ex) {
+                logger.error("Server metrics: catch unknown error - " + ex, ex);
+            }
+        }, SERVER_METRICS_LOG_TIMEOUT_MINS, SERVER_METRICS_LOG_TIMEOUT_MINS, TimeUnit.MINUTES);
     }
 
     @Override
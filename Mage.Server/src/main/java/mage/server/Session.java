@@ -9,6 +9,7 @@ import mage.players.net.UserGroup;
 import mage.server.game.GamesRoom;
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ManagerFactory;
+import mage.server.util.ServerMetrics;
 import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
 import mage.utils.SystemUtil;
@@ -19,9 +20,9 @@ import org.jboss.remoting.callback.HandleCallbackException;
 import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -69,11 +70,11 @@ public class Session {
     private final Date timeConnected;
     private boolean isAdmin = false;
     private final AsynchInvokerCallbackHandler callbackHandler;
-    private boolean valid = true;
+    private volatile boolean valid = true;
 
     private final ReentrantLock lock;
-    private final ReentrantLock callBackLock;
-    private String lastCallbackInfo = "";
+    private final SessionCallbackQueue callbackQueue;
+    private volatile String lastCallbackInfo = "";
 
     public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
         this.managerFactory = managerFactory;
@@ -82,7 +83,7 @@ public class Session {
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
-        this.callBackLock = new ReentrantLock();
+        this.callbackQueue = new SessionCallbackQueue(managerFactory.threadExecutor().getCallbackExecutor(), this::sendCallback);
     }
 
     public String registerUser(String userName, String password, String email) {
@@ -429,29 +430,49 @@ public class Session {
      * Send event/command to the client
      */
     public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false; // TODO: research about locks, why it here? 2023-12-06
+        fireCallback(call, null);
+    }
+
+    /**
+     * Send event/command to the client (async, by sender threads)
+     *
+     * @param dataSupplier optional callback's data to calculate on real sending (e.g. game view's network data),
+     *                     skipped if the callback was replaced by newer game update
+     */
+    public void fireCallback(final ClientCallback call, Supplier<Object> dataSupplier) {
+        if (!valid) {
+            return;
+        }
+        if (!callbackQueue.add(call, dataSupplier)) {
+            logger.warn("SESSION CALLBACK QUEUE OVERFLOW, possible connection problem - userId: "
+                    + userId + ", prev call: " + lastCallbackInfo + ", current call: " + call.getInfo());
 
+            // do not send data anymore (user must reconnect)
+            this.valid = false;
+            callbackQueue.close();
+            managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
+        }
+    }
+
+    /**
+     * Real sending, must be called by callback queue only (one call per session at a time)
+     */
+    private void sendCallback(final ClientCallback call, Supplier<Object> dataSupplier) {
+        if (!valid) {
+            return;
+        }
         try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
-                lastCallbackInfo = call.getInfo();
-                call.setMessageId(messageId.incrementAndGet());
-                lockSet = true;
-                Callback callback = new Callback(call);
-                boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
-                        && call.getMethod().getType().canComeInAnyOrder();
-                callbackHandler.handleCallbackOneway(callback, sendAsync);
-            }
-        } catch (InterruptedException ex) {
-            // already sending another command (connection problem?)
-            // TODO: un-support multiple games/drafts at the same time?!?!?!?!
-            if (call.getMethod().equals(ClientCallbackMethod.GAME_INIT)
-                    || call.getMethod().equals(ClientCallbackMethod.START_GAME)) {
-                // it's ok, possible use cases:
-                // - user has connection problem so can't send game init (see sendInfoAboutPlayersNotJoinedYetAndTryToFixIt)
-            } else {
-                logger.warn("SESSION LOCK, possible connection problem - fireCallback - userId: "
-                        + userId + ", prev call: " + lastCallbackInfo + ", current call: " + call.getInfo(), ex);
+            if (dataSupplier != null) {
+                long prepareStart = System.nanoTime();
+                call.setData(dataSupplier.get(), true);
+                ServerMetrics.instance.timer(ServerMetrics.GAME_VIEW_SERIALIZE).recordSince(prepareStart);
             }
+            lastCallbackInfo = call.getInfo();
+            call.setMessageId(messageId.incrementAndGet());
+            Callback callback = new Callback(call);
+            boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
+                    && call.getMethod().getType().canComeInAnyOrder();
+            callbackHandler.handleCallbackOneway(callback, sendAsync);
         } catch (HandleCallbackException ex) {
             // general error
             // can raise on server freeze or normal connection problem from a client side
@@ -460,20 +481,22 @@ public class Session {
 
             // do not send data anymore (user must reconnect)
             this.valid = false;
+            callbackQueue.close();
             managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
         } catch (Throwable ex) {
             logger.error("SESSION CALLBACK UNKNOWN EXCEPTION - " + ThreadUtils.findRootException(ex) + ", userId " + userId + ", messageId: " + call.getMessageId(), ex);
 
             // do not send data anymore (user must reconnect)
             this.valid = false;
+            callbackQueue.close();
             managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
-        } finally {
-            if (lockSet) {
-                callBackLock.unlock();
-            }
         }
     }
 
+    public int getCallbackQueueSize() {
+        return callbackQueue.size();
+    }
+
     public UUID getUserId() {
         return userId;
     }
@@ -0,0 +1,243 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.server.util.ServerMetrics;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Network: outbound callbacks of one session
+ * <p>
+ * Game threads only put callbacks to the bounded queue, real sending runs by shared sender
+ * threads (one drain task per session at a time, so callbacks keep its order). Slow client
+ * can't stall the game thread anymore.
+ * <p>
+ * Consecutive GAME_UPDATE callbacks of the same game are coalesced (only newest will be sent),
+ * all other callbacks are sent in the income order. Full queue can drop an outdated GAME_UPDATE
+ * only (with a newer update of the same game behind it), otherwise it's overflow.
+ */
+public class SessionCallbackQueue {
+
+    private static final Logger logger = Logger.getLogger(SessionCallbackQueue.class);
+
+    // max callbacks to wait for a slow client, session must be disconnected on overflow
+    public static final int MAX_QUEUE_SIZE = 500;
+    // fair usage of the sender threads by many sessions
+    private static final int MAX_SENDS_PER_DRAIN = 20;
+
+    // metrics for all sessions
+    private static final LongAdder totalQueued = new LongAdder();
+    private static final LongAdder totalSent = new LongAdder();
+    private static final LongAdder totalCoalesced = new LongAdder();
+    private static final LongAdder totalDropped = new LongAdder();
+    private static final LongAdder totalLatencyNanos = new LongAdder();
+    private static final AtomicLong maxLatencyNanos = new AtomicLong();
+    private static final AtomicInteger totalDepth = new AtomicInteger();
+    private static final AtomicInteger maxDepth = new AtomicInteger();
+
+    public interface Sender {
+        void send(ClientCallback call, Supplier<Object> dataSupplier);
+    }
+
+    private static class PendingCallback {
+
+        private final ClientCallback call;
+        private final Supplier<Object> dataSupplier;
+        private final long queuedTime = System.nanoTime();
+
+        PendingCallback(ClientCallback call, Supplier<Object> dataSupplier) {
+            this.call = call;
+            this.dataSupplier = dataSupplier;
+        }
+    }
+
+    private final ExecutorService senderExecutor;
+    private final Sender sender;
+    private final Deque<PendingCallback> queue = new ArrayDeque<>();
+    private boolean draining = false;
+    private boolean closed = false;
+
+    public SessionCallbackQueue(ExecutorService senderExecutor, Sender sender) {
+        this.senderExecutor = senderExecutor;
+        this.sender = sender;
+    }
+
+    /**
+     * @param dataSupplier optional callback's data to calculate on real sending (skipped on coalesce)
+     * @return false on queue overflow (client is too slow or dead)
+     */
+    public boolean add(ClientCallback call, Supplier<Object> dataSupplier) {
+        synchronized (this) {
+            if (closed) {
+                return true;
+            }
+
+            // newest game update replaces previous one
+            PendingCallback last = queue.peekLast();
+            if (last != null && canCoalesce(last.call, call)) {
+                queue.pollLast();
+                totalDepth.decrementAndGet();
+                totalCoalesced.increment();
+            }
+
+            if (queue.size() >= MAX_QUEUE_SIZE && !dropOutdatedUpdate(call)) {
+                return false;
+            }
+
+            queue.addLast(new PendingCallback(call, dataSupplier));
+            totalQueued.increment();
+            maxDepth.accumulateAndGet(totalDepth.incrementAndGet(), Math::max);
+
+            if (!draining) {
+                draining = startDrain();
+            }
+        }
+        return true;
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Session ends, ignore all waiting and new callbacks
+     */
+    public synchronized void close() {
+        closed = true;
+        totalDepth.addAndGet(-queue.size());
+        queue.clear();
+    }
+
+    private static boolean canCoalesce(ClientCallback prev, ClientCallback next) {
+        return prev.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                && next.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                && Objects.equals(prev.getObjectId(), next.getObjectId());
+    }
+
+    /**
+     * Remove oldest game update with a newer update of the same game behind it (in the queue or the new one),
+     * client restores it from the newer one. Other updates (e.g. draft or update with inform) can't be dropped.
+     */
+    private boolean dropOutdatedUpdate(ClientCallback newCall) {
+        // search from the newest, so the oldest outdated update will be found last
+        Set<UUID> updatedGames = new HashSet<>();
+        if (newCall.getMethod() == ClientCallbackMethod.GAME_UPDATE) {
+            updatedGames.add(newCall.getObjectId());
+        }
+        PendingCallback outdated = null;
+        for (Iterator<PendingCallback> it = queue.descendingIterator(); it.hasNext(); ) {
+            PendingCallback pending = it.next();
+            if (pending.call.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                    && !updatedGames.add(pending.call.getObjectId())) {
+                outdated = pending;
+            }
+        }
+        if (outdated == null) {
+            return false;
+        }
+        queue.removeFirstOccurrence(outdated);
+        totalDepth.decrementAndGet();
+        totalDropped.increment();
+        return true;
+    }
+
+    private boolean startDrain() {
+        try {
+            senderExecutor.execute(this::drain);
+            return true;
+        } catch (RejectedExecutionException e) {
+            // server shutdown
+            logger.warn("Can't send callbacks: sender threads are not available");
+            return false;
+        }
+    }
+
+    private void drain() {
+        for (int i = 0; i < MAX_SENDS_PER_DRAIN; i++) {
+            PendingCallback pending;
+            synchronized (this) {
+                pending = queue.pollFirst();
+                if (pending == null) {
+                    draining = false;
+                    return;
+                }
+                totalDepth.decrementAndGet();
+            }
+            sender.send(pending.call, pending.dataSupplier);
+            long latency = System.nanoTime() - pending.queuedTime;
+            totalSent.increment();
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            ServerMetrics.instance.recordCallback(pending.call.getMethod(), latency);
+        }
+
+        // continue in a new task, so other sessions can use sender threads too
+        synchronized (this) {
+            draining = !queue.isEmpty() && startDrain();
+        }
+    }
+
+    public static long getTotalQueued() {
+        return totalQueued.sum();
+    }
+
+    public static long getTotalSent() {
+        return totalSent.sum();
+    }
+
+    public static long getTotalCoalesced() {
+        return totalCoalesced.sum();
+    }
+
+    public static long getTotalDropped() {
+        return totalDropped.sum();
+    }
+
+    public static int getTotalDepth() {
+        return totalDepth.get();
+    }
+
+    public static int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * Average time from queue to sent, in millis
+     */
+    public static double getAverageLatency() {
+        long sent = totalSent.sum();
+        return sent == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(totalLatencyNanos.sum()) / sent / 1000;
+    }
+
+    public static long getMaxLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    public static String getStatistics() {
+        return String.format("Callbacks: queued %d, sent %d, coalesced %d, dropped %d, queue depth %d (max %d), latency avg %.1f ms (max %d ms)",
+                getTotalQueued(),
+                getTotalSent(),
+                getTotalCoalesced(),
+                getTotalDropped(),
+                getTotalDepth(),
+                getMaxDepth(),
+                getAverageLatency(),
+                getMaxLatency()
+        );
+    }
+}
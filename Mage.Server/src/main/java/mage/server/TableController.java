@@ -875,6 +875,9 @@ public class TableController {
     private void closeTable() {
         this.matchEnd();
         table.closeTable();
+        if (table.isTournamentSubTable()) {
+            table.getTournament().matchEnded();
+        }
     }
 
     private void matchEnd() {
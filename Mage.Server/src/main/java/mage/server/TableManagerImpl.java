@@ -16,6 +16,7 @@ import mage.players.PlayerType;
 import mage.server.game.GameController;
 import mage.server.managers.ManagerFactory;
 import mage.server.managers.TableManager;
+import mage.util.GameExecutionSlots;
 import org.apache.log4j.Logger;
 
 import java.text.DateFormat;
@@ -414,7 +415,9 @@ public class TableManagerImpl implements TableManager {
             logger.debug(chatSession.getChatId() + " " + formatter.format(chatSession.getCreateTime()) + ' ' + chatSession.getInfo() + ' ' + chatSession.getUsers().values().toString());
         }
         logger.debug("------- Games: " + managerFactory.gameManager().getNumberActiveGames() + " --------------------------------------------");
-        logger.debug(" Active Game Worker: " + managerFactory.threadExecutor().getActiveThreads(managerFactory.threadExecutor().getGameExecutor()));
+        logger.debug(" Active Game Worker: " + managerFactory.threadExecutor().getActiveThreads(managerFactory.threadExecutor().getGameExecutor())
+                + ", parked (waiting users): " + GameExecutionSlots.getParkedGames()
+                + ", waiting free slot: " + GameExecutionSlots.getWaitingGames());
         for (Entry<UUID, GameController> entry : managerFactory.gameManager().getGameController().entrySet()) {
             logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
         }
@@ -29,6 +29,7 @@ import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -257,9 +258,16 @@ public class User {
     }
 
     public void fireCallback(final ClientCallback call) {
+        fireCallback(call, null);
+    }
+
+    /**
+     * @param dataSupplier callback's data to calculate on real sending, see {@link Session#fireCallback(ClientCallback, Supplier)}
+     */
+    public void fireCallback(final ClientCallback call, Supplier<Object> dataSupplier) {
         if (isConnected()) {
             managerFactory.sessionManager().getSession(sessionId).ifPresent(session
-                    -> session.fireCallback(call)
+                    -> session.fireCallback(call, dataSupplier)
             );
         }
     }
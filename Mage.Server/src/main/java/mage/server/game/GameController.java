@@ -65,6 +65,7 @@ public class GameController implements GameCallback {
     private final ReadWriteLock gameSessionsLock = new ReentrantReadWriteLock();
 
     private final ConcurrentMap<UUID, GameSessionWatcher> watchers = new ConcurrentHashMap<>();
+    private final GameViewDeltaEncoder watchersDeltaEncoder = new GameViewDeltaEncoder(); // shared updates for watchers
     private final ReadWriteLock gameWatchersLock = new ReentrantReadWriteLock();
 
     private final ConcurrentMap<UUID, PriorityTimer> timers = new ConcurrentHashMap<>();
@@ -653,6 +654,17 @@ public class GameController implements GameCallback {
                     viewDeckOrSideboard(getPlayerId(userId), userId, targetPlayerId, true);
                 }
                 break;
+            case CLIENT_REQUEST_FULL_GAME_VIEW: {
+                UUID playerId = getPlayerId(userId);
+                GameSessionWatcher gameSession = playerId == null ? null : gameSessions.get(playerId);
+                if (gameSession == null) {
+                    gameSession = watchers.get(userId);
+                }
+                if (gameSession != null) {
+                    gameSession.requestFullGameView();
+                }
+                break;
+            }
             default:
                 game.sendPlayerAction(playerAction, getPlayerId(userId), data);
         }
@@ -819,11 +831,13 @@ public class GameController implements GameCallback {
 
     private synchronized void updateGame() {
         updatePriorityTimers();
+        // game copy, public view and its network data calculates once for all sessions
+        SharedGameView sharedView = new SharedGameView(game, watchersDeltaEncoder);
         for (final GameSessionPlayer gameSession : getGameSessions()) {
-            gameSession.update();
+            gameSession.update(sharedView);
         }
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+            gameWatcher.update(sharedView);
         }
     }
 
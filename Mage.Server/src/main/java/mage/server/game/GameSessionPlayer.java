@@ -13,6 +13,7 @@ import mage.players.Player;
 import mage.server.User;
 import mage.server.managers.ManagerFactory;
 import mage.server.managers.UserManager;
+import mage.server.util.ServerMetrics;
 import mage.util.MultiAmountMessage;
 import mage.view.*;
 import org.apache.log4j.Logger;
@@ -200,6 +201,11 @@ public class GameSessionPlayer extends GameSessionWatcher {
         return prepareGameView(game, playerId, userId);
     }
 
+    @Override
+    protected GameView getGameView(Game sourceGame) {
+        return prepareGameViewFromCopy(sourceGame, playerId, userId);
+    }
+
     /**
      * Prepare client-server data. Can be used in real games or in unit tests
      *
@@ -211,7 +217,11 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public static GameView prepareGameView(Game game, UUID playerId, UUID userId) {
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
-        Game sourceGame = game.copy();
+        return prepareGameViewFromCopy(game.copy(), playerId, userId);
+    }
+
+    private static GameView prepareGameViewFromCopy(Game sourceGame, UUID playerId, UUID userId) {
+        long start = System.nanoTime();
         GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null);
 
         // playable info (if opponent under control then show opponent's playable)
@@ -226,6 +236,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
         processWatchedHands(sourceGame, userId, gameView);
         //TODO: should player who controls another player's turn be able to look at all these cards?
 
+        ServerMetrics.instance.timer(ServerMetrics.GAME_VIEW_BUILD).recordSince(start);
         return gameView;
     }
 
@@ -7,9 +7,12 @@ import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
 import mage.server.User;
 import mage.server.managers.UserManager;
+import mage.server.util.ServerMetrics;
 import mage.view.GameClientMessage;
 import mage.view.GameEndView;
 import mage.view.GameView;
+import mage.view.GameViewDelta;
+import mage.view.GameViewDeltaEncoder;
 import mage.view.SimpleCardsView;
 import org.apache.log4j.Logger;
 
@@ -17,6 +20,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -25,11 +29,18 @@ public class GameSessionWatcher {
 
     protected static final Logger logger = Logger.getLogger(GameSessionWatcher.class);
 
+    // disable delta encoded game updates in client-server traffic, add java param like -Dxmage.network.nodelta
+    private static final String NO_DELTA_PROPERTY = "xmage.network.nodelta";
+    private static final boolean USE_DELTA = System.getProperty(NO_DELTA_PROPERTY) == null;
+
     private final UserManager userManager;
     protected final UUID userId;
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    private final GameViewDeltaEncoder deltaEncoder = new GameViewDeltaEncoder();
+    private volatile long publicStreamVersion = GameViewDelta.FULL_VIEW_BASE_VERSION; // last received shared update
+    private volatile SharedGameView lastSharedView = null; // last update's data for the full view requests
 
     public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer) {
         this.userManager = userManager;
@@ -42,6 +53,8 @@ public class GameSessionWatcher {
         if (!killed) {
             Optional<User> user = userManager.getUser(userId);
             if (user.isPresent()) {
+                deltaEncoder.reset(); // new client or reconnect
+                publicStreamVersion = GameViewDelta.FULL_VIEW_BASE_VERSION;
                 // TODO: can be called outside of the game thread, e.g. user start watching already running game
                 //    possible fix: getGameView must use last cached value in non game thread call (split by sessions)
                 user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameView()));
@@ -53,9 +66,95 @@ public class GameSessionWatcher {
 
     public void update() {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            GameView gameView = getGameView();
+            sendGameUpdate(() -> {
+                publicStreamVersion = GameViewDelta.FULL_VIEW_BASE_VERSION;
+                return prepareGameUpdate(gameView);
+            });
+        }
+
+    }
+
+    /**
+     * Update with the data shared by all game sessions. Watchers without private data
+     * (e.g. watched hands) get the same public update, serialized and compressed once,
+     * others build own views from the shared game copy.
+     */
+    public void update(SharedGameView sharedView) {
+        if (killed) {
+            return;
         }
+        lastSharedView = sharedView;
+        if (USE_DELTA && !isPlayer && !hasPrivateData(sharedView.getSourceGame())) {
+            // shared stream must be encoded in updates order, so do it here (in game thread)
+            if (sharedView.getPublicDelta() != null) {
+                sendGameUpdate(() -> prepareSharedGameUpdate(sharedView));
+                return;
+            }
+        }
+        GameView gameView;
+        synchronized (sharedView) {
+            gameView = getGameView(sharedView.getSourceGame());
+        }
+        sendGameUpdate(() -> {
+            publicStreamVersion = GameViewDelta.FULL_VIEW_BASE_VERSION;
+            return prepareGameUpdate(gameView);
+        });
+    }
 
+    /**
+     * Network data calculates on real sending (by sender thread), so it can be skipped
+     * for outdated updates (if client is slow then a newer update replaces it in the queue)
+     */
+    private void sendGameUpdate(Supplier<Object> dataSupplier) {
+        userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId()), dataSupplier));
+    }
+
+    private Object prepareSharedGameUpdate(SharedGameView sharedView) {
+        // in sync client gets delta, new or out of sync client joins with full view
+        GameViewDelta delta = sharedView.getPublicDelta();
+        Object data = !delta.isFull() && publicStreamVersion == delta.getBaseVersion()
+                ? sharedView.getPublicDeltaData()
+                : sharedView.getPublicFullData();
+        if (data != null) {
+            publicStreamVersion = delta.getVersion();
+            deltaEncoder.reset();
+            return data;
+        }
+        publicStreamVersion = GameViewDelta.FULL_VIEW_BASE_VERSION;
+        return prepareGameUpdate(sharedView.getPublicView());
+    }
+
+    /**
+     * Client lost sync with delta updates (e.g. skipped callback), so send full view.
+     * <p>
+     * Called by client's request (non-game thread), so it resends the last update from the
+     * game's copy. Without any updates yet it only marks the next update as full.
+     */
+    public void requestFullGameView() {
+        deltaEncoder.reset();
+        publicStreamVersion = GameViewDelta.FULL_VIEW_BASE_VERSION;
+        SharedGameView sharedView = lastSharedView;
+        if (killed || sharedView == null) {
+            return;
+        }
+        GameView gameView;
+        synchronized (sharedView) {
+            // same game's copy can be used by game thread for other sessions
+            gameView = getGameView(sharedView.getSourceGame());
+        }
+        sendGameUpdate(() -> {
+            publicStreamVersion = GameViewDelta.FULL_VIEW_BASE_VERSION;
+            return prepareGameUpdate(gameView);
+        });
+    }
+
+    private Object prepareGameUpdate(GameView gameView) {
+        if (!USE_DELTA) {
+            return gameView;
+        }
+        GameViewDelta delta = deltaEncoder.encode(gameView);
+        return delta != null ? delta : gameView;
     }
 
     public void inform(final String message) {
@@ -101,13 +200,24 @@ public class GameSessionWatcher {
     public GameView getGameView() {
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
-        Game sourceGame = game.copy();
+        return getGameView(game.copy());
+    }
 
+    /**
+     * @param sourceGame game's copy
+     */
+    protected GameView getGameView(Game sourceGame) {
+        long start = System.nanoTime();
         GameView gameView = new GameView(sourceGame.getState(), sourceGame, null, userId);
         processWatchedHands(sourceGame, userId, gameView);
+        ServerMetrics.instance.timer(ServerMetrics.GAME_VIEW_BUILD).recordSince(start);
         return gameView;
     }
 
+    private boolean hasPrivateData(Game sourceGame) {
+        return sourceGame.getPlayers().values().stream().anyMatch(player -> player.hasUserPermissionToSeeHand(userId));
+    }
+
     protected static void processWatchedHands(Game game, UUID userId, GameView gameView) {
         gameView.getWatchedHands().clear();
         for (Player player : game.getPlayers().values()) {
@@ -2,6 +2,7 @@ package mage.server.game;
 
 import mage.MageException;
 import mage.game.Game;
+import mage.util.GameExecutionSlots;
 import mage.util.ThreadUtils;
 import org.apache.log4j.Logger;
 
@@ -10,6 +11,9 @@ import java.util.concurrent.Callable;
 
 /**
  * Game: main thread to process full game (one thread per game)
+ * <p>
+ * Thread holds a running slot while processing the game and parks it while waiting users,
+ * see {@link GameExecutionSlots}
  *
  * @author BetaSteward_at_googlemail.com, JayDi85
  */
@@ -32,6 +36,7 @@ public class GameWorker implements Callable<Boolean> {
         try {
             // play game
             Thread.currentThread().setName(ThreadUtils.THREAD_PREFIX_GAME + " " + game.getId());
+            GameExecutionSlots.enter();
             game.start(choosingPlayerId);
 
             // save result and start next game or close finished table
@@ -44,6 +49,8 @@ public class GameWorker implements Callable<Boolean> {
             LOGGER.fatal("GameWorker mage error [" + game.getId() + " - " + game + "]: " + e, e);
         } catch (Throwable e) {
             LOGGER.fatal("GameWorker system error [" + game.getId() + " - " + game + "]: " + e, e);
+        } finally {
+            GameExecutionSlots.exit();
         }
         return null;
     }
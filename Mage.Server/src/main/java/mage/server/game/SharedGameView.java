@@ -0,0 +1,96 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.server.util.ServerMetrics;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import mage.view.GameViewDelta;
+import mage.view.GameViewDeltaEncoder;
+
+/**
+ * Once per update data for all game sessions of the game:
+ * <p>
+ * - game copy (views calculation can be called from non-game thread, so it must use a copy);
+ * <p>
+ * - public game view for watchers (without hands and other private data);
+ * <p>
+ * - public view's delta, serialized and compressed once for all watchers in sync with
+ * the shared updates stream, see {@link GameSessionWatcher#update(SharedGameView)}
+ * <p>
+ * All data calculates on first usage. Game copy, public view and delta must be calculated
+ * by game thread (in updates order), network data can be calculated by sender threads.
+ */
+public class SharedGameView {
+
+    private final Game game;
+    private final GameViewDeltaEncoder publicEncoder;
+
+    private Game sourceGame = null;
+    private GameView publicView = null;
+    private GameViewDelta publicDelta = null;
+    private Object publicDeltaData = null;
+    private Object publicFullData = null;
+
+    public SharedGameView(Game game, GameViewDeltaEncoder publicEncoder) {
+        this.game = game;
+        this.publicEncoder = publicEncoder;
+    }
+
+    public synchronized Game getSourceGame() {
+        if (sourceGame == null) {
+            sourceGame = game.copy();
+        }
+        return sourceGame;
+    }
+
+    /**
+     * Watcher's view without watched hands, don't modify it
+     */
+    public synchronized GameView getPublicView() {
+        if (publicView == null) {
+            Game source = getSourceGame();
+            long start = System.nanoTime();
+            publicView = new GameView(source.getState(), source, null, null);
+            ServerMetrics.instance.timer(ServerMetrics.GAME_VIEW_BUILD).recordSince(start);
+        }
+        return publicView;
+    }
+
+    /**
+     * Public view's update for the clients in sync with shared stream
+     *
+     * @return null on errors
+     */
+    public synchronized GameViewDelta getPublicDelta() {
+        if (publicDelta == null) {
+            publicDelta = publicEncoder.encode(getPublicView());
+        }
+        return publicDelta;
+    }
+
+    /**
+     * @return compressed {@link #getPublicDelta()} or null on errors
+     */
+    public synchronized Object getPublicDeltaData() {
+        if (publicDeltaData == null && getPublicDelta() != null) {
+            publicDeltaData = CompressUtil.compress(publicDelta);
+        }
+        return publicDeltaData;
+    }
+
+    /**
+     * Compressed full public view with the same version as {@link #getPublicDelta()},
+     * so new or out of sync clients can join the shared stream
+     *
+     * @return null on errors
+     */
+    public synchronized Object getPublicFullData() {
+        if (publicFullData == null && getPublicDelta() != null) {
+            GameViewDelta full = publicDelta.isFull() ? publicDelta : publicEncoder.encodeFull(getPublicView(), publicDelta.getVersion());
+            if (full != null) {
+                publicFullData = CompressUtil.compress(full);
+            }
+        }
+        return publicFullData;
+    }
+}
@@ -25,6 +25,11 @@ public interface ThreadExecutor {
      */
     ExecutorService getCallExecutor();
 
+    /**
+     * Helper threads to send callbacks to clients (example: game updates), see SessionCallbackQueue
+     */
+    ExecutorService getCallbackExecutor();
+
     /**
      * Helper threads to execute async timers and time related tasks
      */
@@ -27,6 +27,9 @@ public enum UserStatsRepository {
     // raise this if db structure was changed
     private static final long DB_VERSION = 0;
 
+    // sqlite's limit for query params is 999
+    private static final int MAX_QUERY_PARAMS = 500;
+
     private Dao<UserStats, Object> statsDao;
 
     UserStatsRepository() {
@@ -105,12 +108,17 @@ public enum UserStatsRepository {
 
     // updateUserStats reads tables finished after the last DB update and reflects it to the DB.
     // It returns the list of user names that are upated.
+    // All records are processed in memory and saved by one transaction (no queries per player).
     public List<String> updateUserStats() {
         Set<String> updatedUsers = new HashSet<>();
         // Lock the DB so that no other updateUserStats runs at the same time.
         synchronized (this) {
             long latestEndTimeMs = this.getLatestEndTimeMs();
             List<TableRecord> records = TableRecordRepository.instance.getAfter(latestEndTimeMs);
+            if (records.isEmpty()) {
+                return new ArrayList<>();
+            }
+            StatsBatch batch = new StatsBatch(this.getUsers(collectPlayerNames(records)));
             for (TableRecord record : records) {
                 ResultProtos.TableProto table = record.getProto();
                 if (table.getControllerName().equals("System")) {
@@ -121,7 +129,7 @@ public enum UserStatsRepository {
                 if (table.hasMatch()) {
                     ResultProtos.MatchProto match = table.getMatch();
                     for (ResultProtos.MatchPlayerProto player : match.getPlayersList()) {
-                        UserStats userStats = this.getUser(player.getName());
+                        UserStats userStats = batch.get(player.getName());
                         ResultProtos.UserStatsProto proto =
                                 userStats != null
                                         ? userStats.getProto()
@@ -139,18 +147,14 @@ public enum UserStatsRepository {
                                 builder.setMatchesQuit(proto.getMatchesQuit() + 1);
                                 break;
                         }
-                        if (userStats == null) {
-                            this.add(new UserStats(builder.build(), table.getEndTimeMs()));
-                        } else {
-                            this.update(new UserStats(builder.build(), table.getEndTimeMs()));
-                        }
+                        batch.put(new UserStats(builder.build(), table.getEndTimeMs()));
                         updatedUsers.add(player.getName());
                     }
-                    updateRating(match, table.getEndTimeMs());
+                    updateRating(batch, match, table.getEndTimeMs());
                 } else if (table.hasTourney()) {
                     ResultProtos.TourneyProto tourney = table.getTourney();
                     for (ResultProtos.TourneyPlayerProto player : tourney.getPlayersList()) {
-                        UserStats userStats = this.getUser(player.getName());
+                        UserStats userStats = batch.get(player.getName());
                         ResultProtos.UserStatsProto proto = userStats != null ? userStats.getProto()
                                 : ResultProtos.UserStatsProto.newBuilder().setName(player.getName()).build();
                         ResultProtos.UserStatsProto.Builder builder = ResultProtos.UserStatsProto.newBuilder(proto)
@@ -166,26 +170,108 @@ public enum UserStatsRepository {
                                 builder.setTourneysQuitDuringConstruction(proto.getTourneysQuitDuringConstruction() + 1);
                                 break;
                         }
-                        if (userStats == null) {
-                            this.add(new UserStats(builder.build(), table.getEndTimeMs()));
-                        } else {
-                            this.update(new UserStats(builder.build(), table.getEndTimeMs()));
-                        }
+                        batch.put(new UserStats(builder.build(), table.getEndTimeMs()));
                         updatedUsers.add(player.getName());
                     }
 
                     for (ResultProtos.TourneyRoundProto round : tourney.getRoundsList()) {
                         for (ResultProtos.MatchProto match : round.getMatchesList()) {
-                            updateRating(match, table.getEndTimeMs());
+                            updateRating(batch, match, table.getEndTimeMs());
                         }
                     }
                 }
             }
+            this.save(batch);
         }
         return new ArrayList<>(updatedUsers);
     }
 
-    private void updateRating(ResultProtos.MatchProto match, long tableEndTimeMs) {
+    private static Set<String> collectPlayerNames(List<TableRecord> records) {
+        Set<String> names = new HashSet<>();
+        for (TableRecord record : records) {
+            ResultProtos.TableProto table = record.getProto();
+            if (table.hasMatch()) {
+                table.getMatch().getPlayersList().forEach(player -> names.add(player.getName()));
+            } else if (table.hasTourney()) {
+                table.getTourney().getPlayersList().forEach(player -> names.add(player.getName()));
+                for (ResultProtos.TourneyRoundProto round : table.getTourney().getRoundsList()) {
+                    for (ResultProtos.MatchProto match : round.getMatchesList()) {
+                        match.getPlayersList().forEach(player -> names.add(player.getName()));
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Load users by names (few queries instead query per user)
+     */
+    private List<UserStats> getUsers(Collection<String> userNames) {
+        List<UserStats> res = new ArrayList<>();
+        List<String> names = new ArrayList<>(userNames);
+        try {
+            for (int i = 0; i < names.size(); i += MAX_QUERY_PARAMS) {
+                QueryBuilder<UserStats, Object> qb = statsDao.queryBuilder();
+                qb.where().in("userName", names.subList(i, Math.min(i + MAX_QUERY_PARAMS, names.size())).stream()
+                        .map(SelectArg::new)
+                        .toArray());
+                res.addAll(statsDao.query(qb.prepare()));
+            }
+        } catch (SQLException ex) {
+            Logger.getLogger(UserStatsRepository.class).error("Error getting users from DB - ", ex);
+        }
+        return res;
+    }
+
+    private void save(StatsBatch batch) {
+        if (batch.changed.isEmpty()) {
+            return;
+        }
+        try {
+            statsDao.callBatchTasks(() -> {
+                for (String userName : batch.changed) {
+                    UserStats userStats = batch.stats.get(userName);
+                    if (batch.existing.contains(userName)) {
+                        statsDao.update(userStats);
+                    } else {
+                        statsDao.create(userStats);
+                    }
+                }
+                return null;
+            });
+        } catch (Exception ex) {
+            Logger.getLogger(UserStatsRepository.class).error("Error saving user_stats to DB - ", ex);
+        }
+    }
+
+    /**
+     * In-memory users stats for batch updates
+     */
+    private static final class StatsBatch {
+
+        private final Map<String, UserStats> stats = new HashMap<>();
+        private final Set<String> existing = new HashSet<>();
+        private final Set<String> changed = new LinkedHashSet<>();
+
+        private StatsBatch(List<UserStats> dbStats) {
+            for (UserStats userStats : dbStats) {
+                stats.put(userStats.getUserName(), userStats);
+                existing.add(userStats.getUserName());
+            }
+        }
+
+        private UserStats get(String userName) {
+            return stats.get(userName);
+        }
+
+        private void put(UserStats userStats) {
+            stats.put(userStats.getUserName(), userStats);
+            changed.add(userStats.getUserName());
+        }
+    }
+
+    private void updateRating(StatsBatch batch, ResultProtos.MatchProto match, long tableEndTimeMs) {
         long matchEndTimeMs;
         if (match.hasEndTimeMs()) {
             matchEndTimeMs = match.getEndTimeMs();
@@ -232,9 +318,9 @@ public enum UserStatsRepository {
         }
 
         // get players stats
-        UserStats player1Stats = getOrCreateUserStats(player1.getName(), tableEndTimeMs);
+        UserStats player1Stats = getOrCreateUserStats(batch, player1.getName(), tableEndTimeMs);
         ResultProtos.UserStatsProto player1StatsProto = player1Stats.getProto();
-        UserStats player2Stats = getOrCreateUserStats(player2.getName(), tableEndTimeMs);
+        UserStats player2Stats = getOrCreateUserStats(batch, player2.getName(), tableEndTimeMs);
         ResultProtos.UserStatsProto player2StatsProto = player2Stats.getProto();
 
         ResultProtos.UserStatsProto.Builder player1StatsBuilder =
@@ -308,8 +394,8 @@ public enum UserStatsRepository {
         }
 
 
-        this.update(new UserStats(player1StatsBuilder.build(), player1Stats.getEndTimeMs()));
-        this.update(new UserStats(player2StatsBuilder.build(), player2Stats.getEndTimeMs()));
+        batch.put(new UserStats(player1StatsBuilder.build(), player1Stats.getEndTimeMs()));
+        batch.put(new UserStats(player2StatsBuilder.build(), player2Stats.getEndTimeMs()));
     }
 
     private void updateRating(
@@ -354,12 +440,12 @@ public enum UserStatsRepository {
                 .setLastGameTimeMs(tableEndTimeMs);
     }
 
-    private UserStats getOrCreateUserStats(String playerName, long endTimeMs) {
-        UserStats userStats = this.getUser(playerName);
+    private UserStats getOrCreateUserStats(StatsBatch batch, String playerName, long endTimeMs) {
+        UserStats userStats = batch.get(playerName);
         if (userStats == null) {
             ResultProtos.UserStatsProto userStatsProto = ResultProtos.UserStatsProto.newBuilder().setName(playerName).build();
             userStats = new UserStats(userStatsProto, endTimeMs);
-            this.add(userStats);
+            batch.put(userStats);
         }
         return userStats;
     }
@@ -0,0 +1,334 @@
+package mage.server.util;
+
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.server.SessionCallbackQueue;
+import mage.server.managers.ThreadExecutor;
+import mage.util.GameExecutionSlots;
+import org.apache.log4j.Logger;
+
+import javax.management.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Server side runtime metrics: gauges (current values like queue sizes) and timers
+ * (histograms of durations since server start).
+ * <p>
+ * Available by JMX as {@link #MBEAN_NAME} (e.g. jconsole or any JMX exporter) and
+ * as a periodic log summary, see {@link #getSummary()}.
+ * <p>
+ * Timer values in millis: count, avg, max and approximated percentiles (upper bound of
+ * power of two bucket).
+ */
+public enum ServerMetrics {
+
+    instance;
+
+    private static final Logger logger = Logger.getLogger(ServerMetrics.class);
+
+    public static final String MBEAN_NAME = "mage.server:type=ServerMetrics";
+
+    // timer names
+    public static final String GAME_THINK = "game.think"; // game processing between human decisions
+    public static final String GAME_PRIORITY_LATENCY = "game.priority.latency"; // human feedback to game continue (wait for free game slot)
+    public static final String GAME_START_LATENCY = "game.start.latency"; // wait for free game slot on game start
+    public static final String GAME_VIEW_BUILD = "gameview.build";
+    public static final String GAME_VIEW_SERIALIZE = "gameview.serialize"; // callback's data prepare (delta, serialize, compress)
+    public static final String CALLBACK_PREFIX = "callback.";
+
+    private final Map<String, Supplier<Number>> gauges = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Timer> callbackTimers = new AtomicReferenceArray<>(ClientCallbackMethod.values().length);
+
+    ServerMetrics() {
+        registerJvmGauges();
+        GameExecutionSlots.setTimingListener(new GameExecutionSlots.TimingListener() {
+            @Override
+            public void onStartWait(long nanos) {
+                timer(GAME_START_LATENCY).record(nanos);
+            }
+
+            @Override
+            public void onResumeWait(long nanos) {
+                timer(GAME_PRIORITY_LATENCY).record(nanos);
+            }
+
+            @Override
+            public void onRunning(long nanos) {
+                timer(GAME_THINK).record(nanos);
+            }
+        });
+    }
+
+    public void registerGauge(String name, Supplier<Number> gauge) {
+        gauges.put(name, gauge);
+    }
+
+    public void registerExecutor(String name, ExecutorService executor) {
+        if (!(executor instanceof ThreadPoolExecutor)) {
+            return;
+        }
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+        registerGauge("executor." + name + ".active", pool::getActiveCount);
+        registerGauge("executor." + name + ".pool", pool::getPoolSize);
+        registerGauge("executor." + name + ".queue", () -> pool.getQueue().size());
+        registerGauge("executor." + name + ".completed", pool::getCompletedTaskCount);
+    }
+
+    public void registerExecutors(ThreadExecutor threadExecutor) {
+        registerExecutor("call", threadExecutor.getCallExecutor());
+        registerExecutor("callback", threadExecutor.getCallbackExecutor());
+        registerExecutor("game", threadExecutor.getGameExecutor());
+        registerExecutor("tourney", threadExecutor.getTourneyExecutor());
+        registerExecutor("timeout", threadExecutor.getTimeoutExecutor());
+        registerExecutor("timeoutIdle", threadExecutor.getTimeoutIdleExecutor());
+        registerGauge("games.running", GameExecutionSlots::getRunningGames);
+        registerGauge("games.parked", GameExecutionSlots::getParkedGames);
+        registerGauge("games.waiting", GameExecutionSlots::getWaitingGames);
+    }
+
+    /**
+     * Sessions callbacks totals, latency is in callback timers, see {@link #recordCallback}
+     */
+    public void registerCallbackQueues() {
+        registerGauge("callbacks.queued", SessionCallbackQueue::getTotalQueued);
+        registerGauge("callbacks.sent", SessionCallbackQueue::getTotalSent);
+        registerGauge("callbacks.coalesced", SessionCallbackQueue::getTotalCoalesced);
+        registerGauge("callbacks.dropped", SessionCallbackQueue::getTotalDropped);
+        registerGauge("callbacks.depth", SessionCallbackQueue::getTotalDepth);
+        registerGauge("callbacks.depth.max", SessionCallbackQueue::getMaxDepth);
+    }
+
+    private void registerJvmGauges() {
+        registerGauge("jvm.heap.used", () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        registerGauge("jvm.heap.committed", () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getCommitted());
+        registerGauge("jvm.heap.max", () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax());
+        registerGauge("jvm.threads", () -> ManagementFactory.getThreadMXBean().getThreadCount());
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String name = "jvm.gc." + gc.getName().replace(' ', '_');
+            registerGauge(name + ".count", gc::getCollectionCount);
+            registerGauge(name + ".time", gc::getCollectionTime);
+        }
+    }
+
+    public Timer timer(String name) {
+        Timer timer = timers.get(name);
+        return timer != null ? timer : timers.computeIfAbsent(name, k -> new Timer());
+    }
+
+    /**
+     * Callback's time from queue to sent
+     */
+    public void recordCallback(ClientCallbackMethod method, long nanos) {
+        Timer timer = callbackTimers.get(method.ordinal());
+        if (timer == null) {
+            timer = timer(CALLBACK_PREFIX + method.name());
+            callbackTimers.set(method.ordinal(), timer);
+        }
+        timer.record(nanos);
+    }
+
+    /**
+     * All metrics values, sorted by names
+     */
+    public SortedMap<String, Number> getValues() {
+        SortedMap<String, Number> res = new TreeMap<>();
+        gauges.forEach((name, gauge) -> {
+            try {
+                res.put(name, gauge.get());
+            } catch (Exception e) {
+                // gauge must not break other metrics (e.g. on server shutdown)
+                res.put(name, -1);
+            }
+        });
+        timers.forEach((name, timer) -> timer.fillValues(name, res));
+        return res;
+    }
+
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder("Server metrics:");
+        getValues().forEach((name, value) -> {
+            sb.append("\n ").append(name).append(" = ");
+            sb.append(value instanceof Double ? String.format("%.2f", value.doubleValue()) : value);
+        });
+        return sb.toString();
+    }
+
+    public void logSummary() {
+        logger.info(getSummary());
+    }
+
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsMBean(), name);
+            }
+        } catch (JMException e) {
+            logger.error("Can't register server metrics in JMX: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Durations histogram (thread safe, no locks)
+     */
+    public static final class Timer {
+
+        // bucket i contains durations up to 2^i millis, last bucket - all others
+        private static final int BUCKETS = 20;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        public void record(long nanos) {
+            if (nanos < 0) {
+                return;
+            }
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            buckets.incrementAndGet(findBucket(TimeUnit.NANOSECONDS.toMillis(nanos)));
+        }
+
+        /**
+         * @param startNanos value from System.nanoTime()
+         */
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        private static int findBucket(long millis) {
+            if (millis <= 1) {
+                return 0;
+            }
+            int bucket = 64 - Long.numberOfLeadingZeros(millis - 1);
+            return Math.min(bucket, BUCKETS - 1);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getAverage() {
+            long c = count.sum();
+            return c == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / c;
+        }
+
+        public long getMax() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        /**
+         * Approximated percentile in millis (bucket's upper bound)
+         *
+         * @param percentile from 0 to 100
+         */
+        public long getPercentile(double percentile) {
+            long[] values = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                values[i] = buckets.get(i);
+                total += values[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long need = (long) Math.ceil(total * percentile / 100);
+            long current = 0;
+            for (int i = 0; i < BUCKETS - 1; i++) {
+                current += values[i];
+                if (current >= need) {
+                    return Math.min(1L << i, getMax());
+                }
+            }
+            return getMax();
+        }
+
+        private void fillValues(String name, Map<String, Number> res) {
+            res.put(name + ".count", getCount());
+            res.put(name + ".avg", getAverage());
+            res.put(name + ".p50", getPercentile(50));
+            res.put(name + ".p95", getPercentile(95));
+            res.put(name + ".p99", getPercentile(99));
+            res.put(name + ".max", getMax());
+        }
+    }
+
+    /**
+     * Read only JMX view: one attribute per metric value
+     */
+    private final class MetricsMBean implements DynamicMBean {
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Number value = getValues().get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return value;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            Map<String, Number> values = getValues();
+            AttributeList res = new AttributeList();
+            for (String attribute : attributes) {
+                Number value = values.get(attribute);
+                if (value != null) {
+                    res.add(new Attribute(attribute, value));
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are read only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+            if ("getSummary".equals(actionName)) {
+                return getSummary();
+            }
+            throw new ReflectionException(new NoSuchMethodException(actionName));
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> attributes = new ArrayList<>();
+            getValues().forEach((name, value) -> attributes.add(new MBeanAttributeInfo(
+                    name, value.getClass().getName(), name, true, false, false
+            )));
+            MBeanOperationInfo summary = new MBeanOperationInfo(
+                    "getSummary", "All metrics as text", new MBeanParameterInfo[0], String.class.getName(), MBeanOperationInfo.INFO
+            );
+            return new MBeanInfo(
+                    ServerMetrics.class.getName(),
+                    "XMage server metrics",
+                    attributes.toArray(new MBeanAttributeInfo[0]),
+                    null,
+                    new MBeanOperationInfo[]{summary},
+                    null
+            );
+        }
+    }
+}
@@ -2,6 +2,7 @@ package mage.server.util;
 
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ThreadExecutor;
+import mage.util.GameExecutionSlots;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
@@ -19,7 +20,12 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     // example: server can have 50 games and 10 tourney at a time
     private static final int GAMES_PER_TOURNEY_RATIO = 50 / 10;
 
+    // hard limit for game threads (opened games), most of it are waiting users without a running slot
+    // example: server with 50 running games can keep 500 opened games, new games above it wait in the queue
+    private static final int GAME_THREADS_PER_RUNNING_GAME = 10;
+
     private final ExecutorService callExecutor; // shareable threads to run single task (example: save new game settings from a user, send chat message, etc)
+    private final ExecutorService callbackExecutor; // shareable threads to send data to clients (example: game updates)
     private final ExecutorService gameExecutor; // game threads to run long tasks, one per game (example: run game and wait user's feedback)
     private final ExecutorService tourneyExecutor; // tourney threads (example: make draft, construction, build and run other game threads)
     private final ScheduledExecutorService timeoutExecutor;
@@ -43,10 +49,18 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
 
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+        // slow client blocks a sender thread until timeout, so it uses more threads than games
+        callbackExecutor = new FixedThreadPoolWithException(Math.max(8, config.getMaxGameThreads()));
+        ((ThreadPoolExecutor) callbackExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) callbackExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) callbackExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALLBACK_SENDER));
+
+        // thread per game, but only maxGameThreads can run at the same time, other games wait users without a running slot
+        gameExecutor = new GameThreadPoolWithException(Math.max(1, config.getMaxGameThreads()) * GAME_THREADS_PER_RUNNING_GAME);
         ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        GameExecutionSlots.setMaxRunningGames(config.getMaxGameThreads());
 
         tourneyExecutor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
         ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
@@ -85,6 +99,26 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         }
     }
 
+    static class GameThreadPoolWithException extends ThreadPoolExecutor {
+
+        GameThreadPoolWithException(int maxThreads) {
+            // use same params as Executors.newFixedThreadPool(), running games limit is in GameExecutionSlots
+            super(maxThreads, maxThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        }
+
+        @Override
+        protected void afterExecute(Runnable r, Throwable t) {
+            super.afterExecute(r, t);
+
+            // catch errors in GAME threads (from game processing)
+            t = ThreadUtils.findRunnableException(r, t);
+            if (t != null && !(t instanceof CancellationException)) {
+                // it's impossible to brake game thread in normal use case, so each bad use case must be researched
+                logger.error("Catch unhandled error in GAME thread: " + t.getMessage(), t);
+            }
+        }
+    }
+
     static class FixedThreadPoolWithException extends ThreadPoolExecutor {
 
         FixedThreadPoolWithException(int nThreads) {
@@ -107,6 +141,10 @@ public class ThreadExecutorImpl implements ThreadExecutor {
 
     @Override
     public int getActiveThreads(ExecutorService executerService) {
+        if (executerService == gameExecutor) {
+            // games without a running slot are waiting users, so it shows really running games only
+            return GameExecutionSlots.getRunningGames();
+        }
         if (executerService instanceof ThreadPoolExecutor) {
             return ((ThreadPoolExecutor) executerService).getActiveCount();
         }
@@ -118,6 +156,11 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         return callExecutor;
     }
 
+    @Override
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     @Override
     public ExecutorService getTourneyExecutor() {
         return tourneyExecutor;
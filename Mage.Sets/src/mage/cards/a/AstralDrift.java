@@ -22,6 +22,7 @@ import mage.game.stack.StackObject;
 import mage.players.Player;
 import mage.target.common.TargetCreaturePermanent;
 import mage.target.targetpointer.FixedTarget;
+import mage.util.RandomUtil;
 
 import java.util.UUID;
 
@@ -116,7 +117,7 @@ class AstralDriftEffect extends OneShotEffect {
         if (permanent == null) {
             return true;
         }
-        UUID exileId = UUID.randomUUID();
+        UUID exileId = RandomUtil.randomUUID();
         if (!controller.moveCardsToExile(permanent, source, game, true, exileId, sourceObject.getIdName())) {
             return true;
         }
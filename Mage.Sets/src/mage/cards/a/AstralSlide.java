@@ -16,6 +16,7 @@ import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.common.TargetCreaturePermanent;
 import mage.target.targetpointer.FixedTarget;
+import mage.util.RandomUtil;
 
 import java.util.UUID;
 
@@ -61,7 +62,7 @@ class AstralSlideEffect extends OneShotEffect {
         if (controller != null && sourceObject != null) {
             Permanent permanent = game.getPermanent(getTargetPointer().getFirst(game, source));
             if (permanent != null) {
-                UUID exileId = UUID.randomUUID();
+                UUID exileId = RandomUtil.randomUUID();
                 if (controller.moveCardsToExile(permanent, source, game, true, exileId, sourceObject.getIdName())) {
                     //create delayed triggered ability
                     Effect effect = new ReturnToBattlefieldUnderOwnerControlTargetEffect(false, false);
@@ -21,6 +21,7 @@ import mage.game.Game;
 import mage.target.Target;
 import mage.target.TargetPermanent;
 import mage.target.common.TargetCreaturePermanent;
+import mage.util.RandomUtil;
 
 /**
  *
@@ -74,7 +75,7 @@ class BackslideEffect extends OneShotEffect {
 
     @Override
     public boolean apply(Game game, Ability source) {
-        Predicate pred = new PermanentIdPredicate(UUID.randomUUID());
+        Predicate pred = new PermanentIdPredicate(RandomUtil.randomUUID());
         for (Target target : source.getTargets()) {
             for (UUID targetId : target.getTargets()) {
                 pred = Predicates.or(pred, new PermanentIdPredicate(targetId));
@@ -25,6 +25,7 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.TargetPermanent;
+import mage.util.RandomUtil;
 import mage.watchers.common.BlockedByOnlyOneCreatureThisCombatWatcher;
 
 import java.util.*;
@@ -141,7 +142,7 @@ class BalduvianWarlordUnblockEffect extends OneShotEffect {
                                         game.fireEvent(GameEvent.getEvent(GameEvent.EventType.CREATURE_BLOCKED, bandedId, source, null));
                                     }
                                 }
-                                String key = UUID.randomUUID().toString();
+                                String key = RandomUtil.randomUUID().toString();
                                 game.getState().setValue("becameBlocked_" + key, morSet);
                                 game.fireEvent(GameEvent.getEvent(
                                         GameEvent.EventType.BATCH_BLOCK_NONCOMBAT,
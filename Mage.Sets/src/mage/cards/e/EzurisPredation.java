@@ -16,6 +16,7 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.game.permanent.token.PhyrexianBeastToken;
 import mage.players.Player;
+import mage.util.RandomUtil;
 
 import java.util.HashSet;
 import java.util.List;
@@ -98,7 +99,7 @@ class EzurisPredationEffect extends OneShotEffect {
                         game.informPlayers(token.getLogName() + " fights " + opponentCreature.getLogName());
                     }
                 }
-                String data = UUID.randomUUID().toString();
+                String data = RandomUtil.randomUUID().toString();
                 game.getState().setValue("batchFight_" + data, morSet);
                 game.fireEvent(GameEvent.getEvent(GameEvent.EventType.BATCH_FIGHT, getId(), source, source.getControllerId(), data, 0));
             }
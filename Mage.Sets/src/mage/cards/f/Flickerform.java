@@ -30,6 +30,7 @@ import mage.target.Target;
 import mage.target.TargetPermanent;
 import mage.target.common.TargetCreaturePermanent;
 import mage.util.CardUtil;
+import mage.util.RandomUtil;
 
 /**
  *
@@ -94,7 +95,7 @@ class FlickerformEffect extends OneShotEffect {
         if (enchantment != null && enchantment.getAttachedTo() != null) {
             Permanent enchantedCreature = game.getPermanent(enchantment.getAttachedTo());
             if (enchantedCreature != null) {
-                UUID exileZoneId = UUID.randomUUID();
+                UUID exileZoneId = RandomUtil.randomUUID();
                 enchantedCreature.moveToExile(exileZoneId, enchantment.getName(), source, game);
                 for (UUID attachementId : enchantedCreature.getAttachments()) {
                     Permanent attachment = game.getPermanent(attachementId);
@@ -27,6 +27,7 @@ import mage.target.Target;
 import mage.target.TargetPermanent;
 import mage.target.common.TargetCreaturePermanent;
 import mage.target.targetadjustment.XTargetsCountAdjuster;
+import mage.util.RandomUtil;
 
 import java.util.Arrays;
 import java.util.UUID;
@@ -94,7 +95,7 @@ class IllithidHarvesterEffect extends OneShotEffect {
 
     @Override
     public boolean apply(Game game, Ability source) {
-        Predicate<Permanent> pred = new PermanentIdPredicate(UUID.randomUUID());
+        Predicate<Permanent> pred = new PermanentIdPredicate(RandomUtil.randomUUID());
         for (Target target : source.getTargets()) {
             for (UUID targetId : target.getTargets()) {
                 if (!game.getPermanent(targetId).isTransformable()) {
@@ -17,6 +17,7 @@ import mage.constants.*;
 import mage.game.Game;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
+import mage.util.RandomUtil;
 
 import java.util.*;
 
@@ -74,7 +75,7 @@ class JeskaiInfiltratorEffect extends OneShotEffect {
         if (controller == null) {
             return false;
         }
-        UUID exileId = UUID.randomUUID();
+        UUID exileId = RandomUtil.randomUUID();
         Permanent sourcePermanent = source.getSourcePermanentIfItStillExists(game);
         if (sourcePermanent != null) {
             controller.moveCardsToExile(sourcePermanent, source, game, false, exileId, "");
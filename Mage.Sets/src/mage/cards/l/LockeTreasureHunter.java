@@ -24,6 +24,7 @@ import mage.game.permanent.Permanent;
 import mage.game.permanent.token.TreasureToken;
 import mage.players.Player;
 import mage.util.CardUtil;
+import mage.util.RandomUtil;
 import mage.watchers.Watcher;
 
 import java.util.*;
@@ -186,7 +187,7 @@ class LockeTreasureHunterWatcher extends Watcher {
     }
 
     private void handleSaveCards(Cards cards, Game game, Ability source) {
-        UUID permissionId = UUID.randomUUID();
+        UUID permissionId = RandomUtil.randomUUID();
         playerPermissionMap.put(permissionId, source.getControllerId());
         Condition condition = new LockeTreasureHunterCondition(permissionId);
         for (Card card : cards.getCards(game)) {
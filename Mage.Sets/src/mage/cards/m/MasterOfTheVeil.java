@@ -21,6 +21,7 @@ import mage.filter.predicate.permanent.PermanentIdPredicate;
 import mage.game.Game;
 import mage.target.Target;
 import mage.target.TargetPermanent;
+import mage.util.RandomUtil;
 
 import java.util.UUID;
 
@@ -80,7 +81,7 @@ class MasterOfTheVeilEffect extends OneShotEffect {
 
     @Override
     public boolean apply(Game game, Ability source) {
-        Predicate pred = new PermanentIdPredicate(UUID.randomUUID());
+        Predicate pred = new PermanentIdPredicate(RandomUtil.randomUUID());
         for (Target target : source.getTargets()) {
             for (UUID targetId : target.getTargets()) {
                 pred = Predicates.or(pred, new PermanentIdPredicate(targetId));
@@ -23,6 +23,7 @@ import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.TargetPermanent;
 import mage.util.CardUtil;
+import mage.util.RandomUtil;
 
 import java.util.Set;
 import java.util.UUID;
@@ -87,7 +88,7 @@ class PheliaExuberantShepherdExileEffect extends ExileTargetEffect {
     @Override
     public boolean apply(Game game, Ability source) {
         MageObject sourceObject = source.getSourceObject(game);
-        this.exileId = UUID.randomUUID();
+        this.exileId = RandomUtil.randomUUID();
         this.exileZone = sourceObject == null ? null : sourceObject.getIdName();
         // attempting to exile to the fresh exileId
         boolean didSomething = super.apply(game, source);
@@ -18,6 +18,7 @@ import mage.game.Game;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.util.CardUtil;
+import mage.util.RandomUtil;
 
 /**
  *
@@ -93,7 +94,7 @@ class PyxisOfPandemoniumExileEffect extends OneShotEffect {
                                 + CardUtil.getExileZoneId(game,
                                         source.getSourceId(),
                                         pyxis.getZoneChangeCounter(game));
-                        UUID exileId = exileIds.computeIfAbsent(exileKey, k -> UUID.randomUUID());
+                        UUID exileId = exileIds.computeIfAbsent(exileKey, k -> RandomUtil.randomUUID());
                         player.moveCardsToExile(card, source, game, false,
                                 exileId, pyxis.getIdName() + " (" + player.getName() + ')');
                         card.setFaceDown(true, game);
@@ -30,6 +30,7 @@ import mage.game.permanent.Permanent;
 import mage.target.TargetPermanent;
 import mage.target.targetpointer.FixedTargets;
 import mage.util.CardUtil;
+import mage.util.RandomUtil;
 
 import java.util.UUID;
 
@@ -108,7 +109,7 @@ class SalvationSwanTargetEffect extends OneShotEffect {
 
         // exile card
         // use workaround with temp zone to get all moved objects like melded parts
-        ExileZone tempExileZone = game.getExile().createZone(UUID.randomUUID(), "temp");
+        ExileZone tempExileZone = game.getExile().createZone(RandomUtil.randomUUID(), "temp");
         permanent.moveToExile(tempExileZone.getId(), tempExileZone.getName(), source, game);
         // TODO: delete temp zone somehow?
 
@@ -22,6 +22,7 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.common.TargetPermanentSameController;
+import mage.util.RandomUtil;
 
 import java.util.HashSet;
 import java.util.List;
@@ -130,7 +131,7 @@ class SorrowsPathSwitchBlockersEffect extends OneShotEffect {
                         .stream()
                         .map(permanent -> new MageObjectReference(permanent, game))
                         .forEach(morSet::add);
-                String key = UUID.randomUUID().toString();
+                String key = RandomUtil.randomUUID().toString();
                 game.getState().setValue("becameBlocked_" + key, morSet);
                 game.fireEvent(GameEvent.getEvent(
                         GameEvent.EventType.BATCH_BLOCK_NONCOMBAT,
@@ -18,6 +18,7 @@ import mage.game.Game;
 import mage.players.Player;
 import mage.target.TargetCard;
 import mage.target.common.TargetOpponent;
+import mage.util.RandomUtil;
 
 /**
  *
@@ -71,9 +72,9 @@ class StruggleForSanityEffect extends OneShotEffect {
 
         Cards cardsLeft = new CardsImpl(targetPlayer.getHand());
         Cards exiledByController = new CardsImpl();
-        UUID exileZoneController = UUID.randomUUID();
+        UUID exileZoneController = RandomUtil.randomUUID();
         Cards exiledByOpponent = new CardsImpl();
-        UUID exileZoneOpponent = UUID.randomUUID();
+        UUID exileZoneOpponent = RandomUtil.randomUUID();
         boolean opponentsChoice = true;
         TargetCard target = new TargetCard(Zone.HAND, new FilterCard("a card to exile"));
         while (!cardsLeft.isEmpty()) {
@@ -28,6 +28,7 @@ import mage.game.permanent.token.DoublestrikeSamuraiToken;
 import mage.players.Player;
 import mage.target.TargetPermanent;
 import mage.target.targetpointer.FixedTarget;
+import mage.util.RandomUtil;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -100,7 +101,7 @@ class TheEternalWandererExileEffect extends OneShotEffect {
         if (controller != null && sourceObject != null) {
             Permanent permanent = game.getPermanent(getTargetPointer().getFirst(game, source));
             if (permanent != null) {
-                UUID exileId = UUID.randomUUID();
+                UUID exileId = RandomUtil.randomUUID();
                 if (controller.moveCardsToExile(permanent, source, game, true, exileId, sourceObject.getIdName())) {
                     //create delayed triggered ability
                     Effect effect = new ReturnToBattlefieldUnderOwnerControlTargetEffect(false, false);
@@ -0,0 +1,105 @@
+package org.mage.test.AI.basic;
+
+import mage.abilities.ActivatedAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.player.TestComputerPlayer;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+
+/**
+ * AI's manual tapping: equivalent mana abilities must be one priority option
+ */
+public class GroupManaActionsAITest extends CardTestPlayerBase {
+
+    private long countForestManaOptions(boolean groupManaActions) {
+        return countManaOptions("Forest", groupManaActions);
+    }
+
+    private long countManaOptions(String permanentName, boolean groupManaActions) {
+        TestComputerPlayer ai = (TestComputerPlayer) playerA.getComputerPlayer();
+        ai.groupManaActions = groupManaActions;
+        List<ActivatedAbility> playable = ai.getPlayableAbilitiesForTests(currentGame);
+        return playable.stream()
+                .filter(ActivatedAbility::isManaAbility)
+                .filter(ability -> {
+                    Permanent permanent = currentGame.getPermanent(ability.getSourceId());
+                    return permanent != null && permanent.getName().equals(permanentName);
+                })
+                .count();
+    }
+
+    @Test
+    public void test_SameForestsMustBeOneOption() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 5);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Assert.assertEquals(5, countForestManaOptions(false));
+        Assert.assertEquals(1, countForestManaOptions(true));
+    }
+
+    @Test
+    public void test_DifferentlyEnchantedForestsMustBeSeparated() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest@wild", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest@sprawl", 1);
+        addCard(Zone.HAND, playerA, "Wild Growth", 1); // {G}, enchanted land adds an additional {G}
+        addCard(Zone.HAND, playerA, "Utopia Sprawl", 1); // {G}, enchanted Forest adds an additional mana of the chosen color
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Wild Growth", "@wild");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Utopia Sprawl", "@sprawl");
+        setChoice(playerA, "Red");
+
+        // all lands untapped (no strict mode, so opponent can discard on cleanup)
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        assertAttachedTo(playerA, "Wild Growth", "Forest", true);
+        assertAttachedTo(playerA, "Utopia Sprawl", "Forest", true);
+        Assert.assertEquals(5, countForestManaOptions(false));
+        Assert.assertEquals("plain forests, forest with Wild Growth, forest with Utopia Sprawl", 3, countForestManaOptions(true));
+    }
+
+    @Test
+    public void test_DifferentChosenColorsMustBeSeparated() {
+        // As Thriving Grove enters the battlefield, choose a color other than green.
+        // {T}: Add {G} or one mana of the chosen color.
+        addCard(Zone.BATTLEFIELD, playerA, "Thriving Grove", 2);
+        setChoice(playerA, "Red");
+        setChoice(playerA, "Blue");
+
+        // no strict mode, so replacement effects can be applied in any order (enters tapped and color choice)
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        assertPermanentCount(playerA, "Thriving Grove", 2);
+        Assert.assertEquals(4, countManaOptions("Thriving Grove", false));
+        Assert.assertEquals("green mana, red mana, blue mana", 3, countManaOptions("Thriving Grove", true));
+    }
+
+    @Test
+    public void test_DifferentChosenCreatureTypesMustBeSeparated() {
+        // As Cavern of Souls enters the battlefield, choose a creature type.
+        // {T}: Add {C}.
+        // {T}: Add one mana of any color. Spend this mana only to cast a creature spell of the chosen type, and that spell can't be countered.
+        addCard(Zone.BATTLEFIELD, playerA, "Cavern of Souls", 2);
+        setChoice(playerA, "Drake");
+        setChoice(playerA, "Human");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        assertPermanentCount(playerA, "Cavern of Souls", 2);
+        Assert.assertEquals(4, countManaOptions("Cavern of Souls", false));
+        Assert.assertEquals("colorless mana, conditional mana for drakes, conditional mana for humans", 3, countManaOptions("Cavern of Souls", true));
+    }
+}
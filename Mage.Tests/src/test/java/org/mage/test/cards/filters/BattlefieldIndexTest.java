@@ -0,0 +1,55 @@
+package org.mage.test.cards.filters;
+
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Battlefield queries use controller and card type indexes, so they must follow
+ * control and type changes from continuous effects
+ */
+public class BattlefieldIndexTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_ControlChange() {
+        addCard(Zone.HAND, playerA, "Mind Control"); // {3}{U}{U}
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Craw Wurm", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Mind Control", "Craw Wurm");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        execute();
+
+        assertPermanentCount(playerA, "Craw Wurm", 1);
+        Assert.assertEquals(1, currentGame.getBattlefield().count(StaticFilters.FILTER_CONTROLLED_CREATURE, playerA.getId(), null, currentGame));
+        Assert.assertEquals(0, currentGame.getBattlefield().count(StaticFilters.FILTER_CONTROLLED_CREATURE, playerB.getId(), null, currentGame));
+        Assert.assertEquals(1, currentGame.getBattlefield().countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), currentGame));
+        Assert.assertEquals(7, currentGame.getBattlefield().getAllActivePermanents(playerA.getId()).size());
+        Assert.assertEquals(0, currentGame.getBattlefield().getAllActivePermanents(playerB.getId()).size());
+    }
+
+    @Test
+    public void test_TypeChange() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mutavault", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Wastes", 1);
+
+        // before: index is built with lands only
+        checkPermanentCount("before", 1, PhaseStep.UPKEEP, playerA, "Mutavault", 1);
+
+        activateAbility(1, PhaseStep.PRECOMBAT_MAIN, playerA, "{1}:");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        execute();
+
+        Assert.assertEquals(1, currentGame.getBattlefield().getAllActivePermanents(CardType.CREATURE, currentGame).size());
+        Assert.assertEquals(2, currentGame.getBattlefield().getAllActivePermanents(CardType.LAND, currentGame).size());
+        Assert.assertEquals(1, currentGame.getBattlefield().count(StaticFilters.FILTER_CONTROLLED_CREATURE, playerA.getId(), null, currentGame));
+    }
+}
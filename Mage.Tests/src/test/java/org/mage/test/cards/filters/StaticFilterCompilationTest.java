@@ -0,0 +1,60 @@
+package org.mage.test.cards.filters;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.filter.predicate.Predicates;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters use compiled (reordered and memoized) predicates, so results must be same as plain predicates
+ */
+public class StaticFilterCompilationTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_CompiledFiltersMustMatchPlainPredicates() throws IllegalAccessException {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Goblin Piker", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Ornithopter", 5);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        List<FilterPermanent> filters = new ArrayList<>();
+        for (Field field : StaticFilters.class.getFields()) {
+            Object filter = field.get(null);
+            if (filter instanceof FilterPermanent) {
+                filters.add((FilterPermanent) filter);
+            }
+        }
+        Assert.assertFalse(filters.isEmpty());
+
+        for (FilterPermanent filter : filters) {
+            for (Permanent permanent : currentGame.getBattlefield().getAllPermanents()) {
+                // twice to check memoized result too
+                for (int i = 0; i < 2; i++) {
+                    Assert.assertEquals(filter.getMessage() + " - " + permanent.getName(),
+                            Predicates.and(filter.getPredicates()).apply(permanent, currentGame),
+                            filter.match(permanent, currentGame)
+                    );
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.mage.test.cards.replacement;
+
+import mage.abilities.effects.ContinuousEffectsList;
+import mage.abilities.effects.PreventionEffect;
+import mage.abilities.effects.PreventionEffectImpl;
+import mage.constants.Duration;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Replacement and prevention effects are indexed by declared event types
+ */
+public class ReplacementEffectsIndexTest extends CardTestPlayerBase {
+
+    private static class DeclaredPreventionEffect extends PreventionEffectImpl {
+
+        DeclaredPreventionEffect() {
+            super(Duration.WhileOnBattlefield);
+        }
+
+        private DeclaredPreventionEffect(final DeclaredPreventionEffect effect) {
+            super(effect);
+        }
+
+        @Override
+        public DeclaredPreventionEffect copy() {
+            return new DeclaredPreventionEffect(this);
+        }
+    }
+
+    private static class OverriddenPreventionEffect extends DeclaredPreventionEffect {
+
+        @Override
+        public boolean checksEventType(GameEvent event, Game game) {
+            return event.getType() == GameEvent.EventType.PREVENT_DAMAGE;
+        }
+    }
+
+    @Test
+    public void test_DeclaredTypesMustBeIgnoredAfterOverride() {
+        Assert.assertNotNull(new DeclaredPreventionEffect().getCheckedEventTypes());
+        Assert.assertTrue(new DeclaredPreventionEffect().getCheckedEventTypes().contains(GameEvent.EventType.DAMAGE_PLAYER));
+        Assert.assertNull(new OverriddenPreventionEffect().getCheckedEventTypes());
+    }
+
+    @Test
+    public void test_IndexMustFollowListChanges() {
+        ContinuousEffectsList<PreventionEffect> list = new ContinuousEffectsList<>();
+        PreventionEffect declared = new DeclaredPreventionEffect();
+        PreventionEffect overridden = new OverriddenPreventionEffect();
+
+        Assert.assertEquals(0, list.getReplacementEffects(GameEvent.EventType.DAMAGE_PLAYER).size());
+
+        list.add(declared);
+        Assert.assertEquals(1, list.getReplacementEffects(GameEvent.EventType.DAMAGE_PLAYER).size());
+        Assert.assertEquals(0, list.getReplacementEffects(GameEvent.EventType.TAPPED_FOR_MANA).size());
+
+        list.add(overridden);
+        Assert.assertEquals(2, list.getReplacementEffects(GameEvent.EventType.DAMAGE_PLAYER).size());
+        Assert.assertEquals(1, list.getReplacementEffects(GameEvent.EventType.TAPPED_FOR_MANA).size());
+        Assert.assertSame(declared, list.getReplacementEffects(GameEvent.EventType.DAMAGE_PLAYER).get(0));
+
+        list.remove(declared);
+        Assert.assertEquals(1, list.getReplacementEffects(GameEvent.EventType.DAMAGE_PLAYER).size());
+        Assert.assertSame(overridden, list.getReplacementEffects(GameEvent.EventType.DAMAGE_PLAYER).get(0));
+    }
+
+    @Test
+    public void test_Regenerate() {
+        // {B}: Regenerate Drudge Skeletons.
+        addCard(Zone.BATTLEFIELD, playerA, "Drudge Skeletons", 1); // 1/1
+        addCard(Zone.BATTLEFIELD, playerA, "Swamp", 1);
+        //
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        activateAbility(1, PhaseStep.PRECOMBAT_MAIN, playerA, "{B}: Regenerate");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", "Drudge Skeletons");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertPermanentCount(playerA, "Drudge Skeletons", 1);
+        assertTapped("Drudge Skeletons", true);
+    }
+}
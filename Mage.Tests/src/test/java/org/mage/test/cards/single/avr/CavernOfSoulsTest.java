@@ -1,5 +1,6 @@
 package org.mage.test.cards.single.avr;
 
+import mage.cards.CardPrototypes;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import org.junit.Assert;
@@ -111,6 +112,41 @@ public class CavernOfSoulsTest extends CardTestPlayerBase {
         assertPermanentCount(playerA, "Azure Drake", 1);
     }
 
+    /**
+     * Tests spell can't be countered for Cavern of Souls from card prototypes (watcher must use ids of the copy)
+     */
+    @Test
+    public void testDrakeCantBeCounteredWithCardPrototypes() {
+        boolean wasEnabled = CardPrototypes.isEnabled();
+        CardPrototypes.setEnabled(true);
+        try {
+            // prototype for the first card, copy for the second
+            addCard(Zone.HAND, playerB, "Cavern of Souls");
+            addCard(Zone.HAND, playerA, "Cavern of Souls");
+        } finally {
+            CardPrototypes.setEnabled(wasEnabled);
+        }
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.HAND, playerA, "Azure Drake");
+
+        addCard(Zone.HAND, playerB, "Remove Soul");
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 2);
+
+        setChoice(playerA, "Drake");
+        setChoice(playerA, "Blue");
+
+        playLand(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Cavern of Souls");
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Azure Drake");
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerB, "Remove Soul");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        // check wasn't countered
+        assertGraveyardCount(playerA, "Azure Drake", 0);
+        assertPermanentCount(playerA, "Azure Drake", 1);
+    }
+
     /**
      * Tests spell can be countered if cast with colorless mana from Cavern
      */
@@ -31,6 +31,7 @@ public class LoadCallbackClient implements CallbackClient {
     private volatile int controlCount;
 
     private GameView gameView;
+    private final GameViewDeltaDecoder gameViewDecoder = new GameViewDeltaDecoder();
 
     private final String logsPrefix;
     private final Boolean showLogsAsHtml; // original game logs in HTML, but it can be converted to txt for more readable console
@@ -56,6 +57,16 @@ public class LoadCallbackClient implements CallbackClient {
         callback.decompressData();
         controlCount = 0;
 
+        if (callback.getData() instanceof GameViewDelta) {
+            GameView restoredGameView = gameViewDecoder.decode((GameViewDelta) callback.getData());
+            if (restoredGameView == null) {
+                log.warn(getLogStartInfo() + "game view delta lost sync, requesting full view");
+                session.sendPlayerAction(PlayerAction.CLIENT_REQUEST_FULL_GAME_VIEW, callback.getObjectId(), null);
+                return;
+            }
+            callback.setData(restoredGameView, false);
+        }
+
         // ignore bloated logs
         switch (callback.getMethod()) {
             case CHATMESSAGE:
@@ -1,6 +1,7 @@
 package org.mage.test.player;
 
 import mage.abilities.Ability;
+import mage.abilities.ActivatedAbility;
 import mage.cards.Cards;
 import mage.choices.Choice;
 import mage.constants.Outcome;
@@ -10,6 +11,8 @@ import mage.player.ai.ComputerPlayer;
 import mage.target.Target;
 import mage.target.TargetCard;
 
+import java.util.List;
+
 /**
  * AI: helper class for tests
  * <p>
@@ -43,6 +46,13 @@ public final class TestComputerPlayer extends ComputerPlayer {
         this.testPlayerLink = testPlayerLink;
     }
 
+    /**
+     * AI's priority options (e.g. to check grouped mana abilities)
+     */
+    public List<ActivatedAbility> getPlayableAbilitiesForTests(Game game) {
+        return getPlayableAbilities(game);
+    }
+
     @Override
     public boolean choose(Outcome outcome, Target target, Ability source, Game game) {
         if (testPlayerLink.canChooseByComputer()) {
@@ -0,0 +1,111 @@
+package org.mage.test.serverside;
+
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory cards catalog must return same data as db queries
+ */
+public class CardCatalogTest {
+
+    @BeforeClass
+    public static void setUp() {
+        CardScanner.scan();
+    }
+
+    private static List<String> keys(List<CardInfo> cards) {
+        return cards.stream()
+                .map(card -> card.getName() + " - " + card.getSetCode() + " - " + card.getCardNumber())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private void assertSameByName(String name, boolean returnSplitCardHalf) {
+        // canCheckDatabaseHealth = false - db only search
+        List<CardInfo> fromDB = CardRepository.instance.findCards(name, 0, returnSplitCardHalf, false);
+        List<CardInfo> fromCatalog = CardRepository.instance.findCards(name, 0, returnSplitCardHalf, true);
+        Assert.assertFalse("must find " + name, fromCatalog.isEmpty());
+        Assert.assertEquals(name, keys(fromDB), keys(fromCatalog));
+    }
+
+    private void assertSameByCriteria(String info, Supplier<CardCriteria> criteria) {
+        // custom sorting - db only search
+        List<CardInfo> fromDB = CardRepository.instance.findCards(criteria.get().setOrderBy("name"));
+        List<CardInfo> fromCatalog = CardRepository.instance.findCards(criteria.get());
+        Assert.assertFalse("must find " + info, fromCatalog.isEmpty());
+        Assert.assertEquals(info, keys(fromDB), keys(fromCatalog));
+    }
+
+    @Test
+    public void test_FindByName() {
+        assertSameByName("Grizzly Bears", false);
+        assertSameByName("grizzly bears", false); // ignore case like db
+        assertSameByName("Fire // Ice", false);
+        assertSameByName("Fire", false);
+        assertSameByName("Fire", true);
+        assertSameByName("Delver of Secrets", false);
+        assertSameByName("Insectile Aberration", false); // second side
+        assertSameByName("Bonecrusher Giant", false);
+        assertSameByName("Stomp", false); // adventure spell
+        Assert.assertTrue(CardRepository.instance.findCards("Unknown card name").isEmpty());
+    }
+
+    @Test
+    public void test_FindBySetAndNumber() {
+        CardInfo card = CardRepository.instance.findCards("Grizzly Bears").get(0);
+        CardInfo found = CardRepository.instance.findCard(card.getSetCode(), card.getCardNumber());
+        Assert.assertNotNull(found);
+        Assert.assertEquals(card.getName(), found.getName());
+        Assert.assertNotNull(CardRepository.instance.findCard(card.getSetCode().toLowerCase(), card.getCardNumber()));
+        Assert.assertEquals(card.getName(), CardRepository.instance.findCardsByClass(card.getClassName()).get(0).getName());
+    }
+
+    @Test
+    public void test_FindByCriteria() {
+        assertSameByCriteria("set", () -> new CardCriteria().setCodes("M10"));
+        assertSameByCriteria("sets and rarity", () -> new CardCriteria().setCodes("M10", "M11").rarities(Rarity.RARE, Rarity.MYTHIC));
+        assertSameByCriteria("basic lands", () -> new CardCriteria().setCodes("M10").supertypes(SuperType.BASIC).types(CardType.LAND));
+        assertSameByCriteria("non-basic lands", () -> new CardCriteria().setCodes("ZEN").notSupertypes(SuperType.BASIC).types(CardType.LAND));
+        assertSameByCriteria("red creatures", () -> new CardCriteria().setCodes("M10").types(CardType.CREATURE)
+                .black(false).blue(false).green(false).white(false).colorless(false));
+        assertSameByCriteria("colorless artifacts", () -> new CardCriteria().setCodes("M10").types(CardType.ARTIFACT)
+                .black(false).blue(false).green(false).red(false).white(false));
+        assertSameByCriteria("subtype", () -> new CardCriteria().setCodes("LRW").subtypes(SubType.ELF));
+        assertSameByCriteria("name contains", () -> new CardCriteria().nameContains("bears"));
+        assertSameByCriteria("rules", () -> new CardCriteria().setCodes("M10").rules("flying"));
+        assertSameByCriteria("mana value", () -> new CardCriteria().setCodes("M10").manaValue(3).notTypes(CardType.CREATURE));
+        assertSameByCriteria("card numbers", () -> new CardCriteria().setCodes("M10").minCardNumber(10).maxCardNumber(20));
+        assertSameByCriteria("ignore sets", () -> new CardCriteria().name("Forest").ignoreSetsWithSnowLands());
+
+        // offset and limit
+        List<CardInfo> all = CardRepository.instance.findCards(new CardCriteria().setCodes("M10"));
+        List<CardInfo> page = CardRepository.instance.findCards(new CardCriteria().setCodes("M10").start(5L).count(10L));
+        Assert.assertEquals(keys(all.subList(5, 15)), keys(page));
+    }
+
+    @Test
+    public void test_Names() {
+        Assert.assertTrue(CardRepository.instance.getNames().containsAll(Arrays.asList("Grizzly Bears", "Fire", "Ice", "Insectile Aberration")));
+        Assert.assertTrue(CardRepository.instance.getCreatureNames().contains("Grizzly Bears"));
+        Assert.assertFalse(CardRepository.instance.getCreatureNames().contains("Lightning Bolt"));
+        Assert.assertTrue(CardRepository.instance.getNonLandNames().contains("Lightning Bolt"));
+        Assert.assertFalse(CardRepository.instance.getNonLandNames().contains("Forest"));
+        Assert.assertTrue(CardRepository.instance.getNonbasicLandNames().contains("Mutavault"));
+        Assert.assertFalse(CardRepository.instance.getNonbasicLandNames().contains("Forest"));
+        Assert.assertTrue(CardRepository.instance.getArtifactNames().contains("Sol Ring"));
+    }
+}
@@ -0,0 +1,143 @@
+package org.mage.test.serverside;
+
+import mage.MageObject;
+import mage.abilities.Ability;
+import mage.abilities.MageSingleton;
+import mage.abilities.keyword.FlyingAbility;
+import mage.cards.Card;
+import mage.cards.CardPrototypes;
+import mage.cards.SplitCard;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.util.CardUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cards from prototypes must be same as new cards, but with own ids
+ */
+public class CardPrototypesTest {
+
+    private boolean wasEnabled;
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+        wasEnabled = CardPrototypes.isEnabled();
+        CardPrototypes.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        CardPrototypes.setEnabled(wasEnabled);
+    }
+
+    private Set<UUID> collectIds(Card card) {
+        Set<UUID> ids = new HashSet<>();
+        for (MageObject part : CardUtil.getObjectPartsAsObjects(card)) {
+            ids.add(part.getId());
+            for (Ability ability : part.getAbilities()) {
+                // singletons are shared by all cards (e.g. flying or adventure's exile)
+                if (ability instanceof MageSingleton) {
+                    continue;
+                }
+                ids.add(ability.getId());
+                ids.add(ability.getOriginalId());
+                ability.getEffects().stream()
+                        .filter(effect -> !(effect instanceof MageSingleton))
+                        .forEach(effect -> ids.add(effect.getId()));
+                for (Ability subAbility : ability.getSubAbilities()) {
+                    ids.add(subAbility.getId());
+                    ids.add(subAbility.getOriginalId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void assertPrototypeCopies(String cardName) {
+        CardInfo cardInfo = CardRepository.instance.findCards(cardName).get(0);
+        Card original = cardInfo.createCard();
+        Card card1 = CardPrototypes.createCard(cardInfo);
+        Card card2 = CardPrototypes.createCard(cardInfo);
+        Assert.assertNotNull(card1);
+        Assert.assertNotNull(card2);
+
+        // same card
+        Assert.assertEquals(original.getClass(), card1.getClass());
+        Assert.assertEquals(original.getName(), card1.getName());
+        Assert.assertEquals(original.getExpansionSetCode(), card1.getExpansionSetCode());
+        Assert.assertEquals(original.getCardNumber(), card1.getCardNumber());
+        Assert.assertEquals(original.getRules(), card1.getRules());
+        Assert.assertEquals(original.getAbilities().size(), card1.getAbilities().size());
+
+        // own ids
+        Set<UUID> ids1 = collectIds(card1);
+        Set<UUID> ids2 = collectIds(card2);
+        ids1.retainAll(ids2);
+        Assert.assertTrue(cardName + " must have own ids, but found same: " + ids1, ids1.isEmpty());
+        Set<UUID> partIds = new HashSet<>();
+        CardUtil.getObjectPartsAsObjects(card1).forEach(part -> partIds.add(part.getId()));
+        for (MageObject part : CardUtil.getObjectPartsAsObjects(card1)) {
+            for (Ability ability : part.getAbilities()) {
+                if (ability instanceof MageSingleton) {
+                    continue;
+                }
+                Assert.assertTrue(cardName + " - ability must use own card", partIds.contains(ability.getSourceId()));
+            }
+        }
+    }
+
+    @Test
+    public void test_NewIds() {
+        assertPrototypeCopies("Grizzly Bears");
+        assertPrototypeCopies("Lightning Bolt");
+        assertPrototypeCopies("Glorious Anthem");
+        assertPrototypeCopies("Fire // Ice");
+        assertPrototypeCopies("Delver of Secrets");
+        assertPrototypeCopies("Bonecrusher Giant");
+        assertPrototypeCopies("Aven Riftwatcher"); // vanishing with sub-abilities
+    }
+
+    @Test
+    public void test_SingletonAbilitiesMustKeepIds() {
+        UUID flyingId = FlyingAbility.getInstance().getId();
+        assertPrototypeCopies("Aven Riftwatcher");
+        Assert.assertEquals(flyingId, FlyingAbility.getInstance().getId());
+        Assert.assertEquals(flyingId, FlyingAbility.getInstance().getOriginalId());
+    }
+
+    @Test
+    public void test_SplitCard() {
+        CardInfo cardInfo = CardRepository.instance.findCards("Fire // Ice").get(0);
+        SplitCard card = (SplitCard) CardPrototypes.createCard(cardInfo);
+        Assert.assertEquals(card.getId(), card.getLeftHalfCard().getParentCard().getId());
+        Assert.assertEquals(card.getId(), card.getRightHalfCard().getParentCard().getId());
+    }
+
+    @Test
+    public void test_ConstructorIdsMustUseConstructor() {
+        // Cavern of Souls keeps mana ability's original id in the watcher, copy can't replace it
+        CardPrototypes.clear();
+        assertPrototypeCopies("Grizzly Bears");
+        Assert.assertEquals(1, CardPrototypes.getPrototypesCount());
+        assertPrototypeCopies("Cavern of Souls");
+        Assert.assertEquals(1, CardPrototypes.getPrototypesCount());
+    }
+
+    @Test
+    public void test_Disabled() {
+        CardPrototypes.setEnabled(false);
+        int prototypes = CardPrototypes.getPrototypesCount();
+        CardInfo cardInfo = CardRepository.instance.findCards("Shock").get(0);
+        Assert.assertNotNull(CardPrototypes.createCard(cardInfo));
+        Assert.assertEquals(prototypes, CardPrototypes.getPrototypesCount());
+    }
+}
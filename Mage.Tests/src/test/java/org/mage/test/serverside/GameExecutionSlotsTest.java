@@ -0,0 +1,153 @@
+package org.mage.test.serverside;
+
+import mage.util.GameExecutionSlots;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parked games (waiting users) and long running games must free running slots for other games
+ */
+public class GameExecutionSlotsTest {
+
+    @Before
+    public void setUp() {
+        GameExecutionSlots.setMaxRunningGames(1);
+    }
+
+    @After
+    public void tearDown() {
+        GameExecutionSlots.setMaxRunningGames(0);
+    }
+
+    @Test
+    public void test_ParkAndResume() throws InterruptedException {
+        CountDownLatch firstParked = new CountDownLatch(1);
+        CountDownLatch userAnswered = new CountDownLatch(1);
+        CountDownLatch firstResumed = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        CountDownLatch secondCanFinish = new CountDownLatch(1);
+
+        // first game: runs and waits a user
+        Thread first = new Thread(() -> {
+            GameExecutionSlots.enter();
+            GameExecutionSlots.park();
+            firstParked.countDown();
+            await(userAnswered);
+            GameExecutionSlots.resume();
+            firstResumed.countDown();
+            GameExecutionSlots.exit();
+        });
+        first.start();
+        Assert.assertTrue(firstParked.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, GameExecutionSlots.getRunningGames());
+        Assert.assertEquals(1, GameExecutionSlots.getParkedGames());
+
+        // second game: must start on free slot
+        Thread second = new Thread(() -> {
+            GameExecutionSlots.enter();
+            secondStarted.countDown();
+            await(secondCanFinish);
+            GameExecutionSlots.exit();
+        });
+        second.start();
+        Assert.assertTrue("parked game must free the slot", secondStarted.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, GameExecutionSlots.getRunningGames());
+
+        // user answered, but first game must wait a free slot
+        userAnswered.countDown();
+        Assert.assertFalse("resumed game must wait a free slot", firstResumed.await(200, TimeUnit.MILLISECONDS));
+
+        secondCanFinish.countDown();
+        Assert.assertTrue(firstResumed.await(5, TimeUnit.SECONDS));
+        first.join(5000);
+        second.join(5000);
+        Assert.assertEquals(0, GameExecutionSlots.getRunningGames());
+        Assert.assertEquals(0, GameExecutionSlots.getParkedGames());
+    }
+
+    @Test
+    public void test_LongGameMustShareSlot() throws InterruptedException {
+        AtomicBoolean stopFirst = new AtomicBoolean(false);
+        AtomicInteger firstPriorities = new AtomicInteger();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        CountDownLatch secondCanFinish = new CountDownLatch(1);
+
+        // first game: AI only game without user waits, so it never parks
+        Thread first = new Thread(() -> {
+            GameExecutionSlots.enter();
+            firstStarted.countDown();
+            while (!stopFirst.get()) {
+                GameExecutionSlots.yieldToWaitingGames();
+                firstPriorities.incrementAndGet();
+                sleep(10);
+            }
+            GameExecutionSlots.exit();
+        });
+        first.start();
+        Assert.assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        // second game: must get the slot after first game's slot time
+        Thread second = new Thread(() -> {
+            GameExecutionSlots.enter();
+            secondStarted.countDown();
+            await(secondCanFinish);
+            GameExecutionSlots.exit();
+        });
+        second.start();
+        Assert.assertTrue("long game must give the slot to waiting game",
+                secondStarted.await(GameExecutionSlots.SLOT_TIME_MS * 10, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, GameExecutionSlots.getRunningGames());
+
+        // first game waits for a slot
+        int priorities = firstPriorities.get();
+        sleep(100);
+        Assert.assertEquals("game without slot must wait", priorities, firstPriorities.get());
+
+        // and continues after second game
+        secondCanFinish.countDown();
+        second.join(5000);
+        long timeout = System.currentTimeMillis() + 5000;
+        while (firstPriorities.get() == priorities && System.currentTimeMillis() < timeout) {
+            sleep(10);
+        }
+        Assert.assertNotEquals("game must continue on free slot", priorities, firstPriorities.get());
+
+        stopFirst.set(true);
+        first.join(5000);
+        Assert.assertEquals(0, GameExecutionSlots.getRunningGames());
+    }
+
+    @Test
+    public void test_NoLimits() {
+        GameExecutionSlots.setMaxRunningGames(0);
+        GameExecutionSlots.enter();
+        GameExecutionSlots.park();
+        GameExecutionSlots.resume();
+        GameExecutionSlots.yieldToWaitingGames();
+        GameExecutionSlots.exit();
+        Assert.assertEquals(0, GameExecutionSlots.getRunningGames());
+        Assert.assertEquals(0, GameExecutionSlots.getParkedGames());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ignore) {
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ignore) {
+        }
+    }
+}
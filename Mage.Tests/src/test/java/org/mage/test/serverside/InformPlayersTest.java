@@ -0,0 +1,41 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.game.Game;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lazy game logs must be skipped in simulations without message building
+ */
+public class InformPlayersTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_LazyMessages() {
+        AtomicInteger realCalls = new AtomicInteger();
+        AtomicInteger simulationCalls = new AtomicInteger();
+
+        runCode("lazy logs", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            game.informPlayers(() -> {
+                realCalls.incrementAndGet();
+                return "real game message";
+            });
+
+            Game sim = game.createSimulationForAI();
+            sim.informPlayers(() -> {
+                simulationCalls.incrementAndGet();
+                return "simulation message";
+            });
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        Assert.assertEquals(1, realCalls.get());
+        Assert.assertEquals(0, simulationCalls.get());
+    }
+}
@@ -0,0 +1,98 @@
+package org.mage.test.serverside;
+
+import mage.abilities.ActivatedAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.PlayableCache;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+
+public class PlayableCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SamePriorityWindowMustUseCache() {
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1); // {1}{G}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        runCode("check cache", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            PlayableCache cache = game.getPlayableCache();
+            List<ActivatedAbility> first = playerA.getPlayable(game, true);
+            long hits = cache.getHits();
+            long misses = cache.getMisses();
+
+            // same state
+            List<ActivatedAbility> second = playerA.getPlayable(game, true);
+            Assert.assertEquals(hits + 1, cache.getHits());
+            Assert.assertEquals(misses, cache.getMisses());
+            Assert.assertEquals(first.size(), second.size());
+            for (int i = 0; i < first.size(); i++) {
+                Assert.assertEquals(first.get(i).getId(), second.get(i).getId());
+                Assert.assertNotSame("cached abilities must be copied", first.get(i), second.get(i));
+            }
+
+            // any game change must reset cache
+            game.getState().markChanged();
+            playerA.getPlayable(game, true);
+            Assert.assertEquals(misses + 1, cache.getMisses());
+        });
+
+        // cache must not return outdated playable abilities
+        checkPlayableAbility("before", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Cast Lightning Bolt", true);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        checkPlayableAbility("after", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Cast Lightning Bolt", false);
+        checkPlayableAbility("after", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Cast Grizzly Bears", false);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerB, 20 - 3);
+    }
+
+    @Test
+    public void test_AnotherStateWithSameCounterMustNotUseCache() {
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        runCode("check cache", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            // AI simulations replace game state by copies of the same parent (e.g. MCTS siblings),
+            // so different states can have same change counter
+            GameState original = game.getState();
+            GameState stateWithMana = original.copy();
+            GameState stateWithoutMana = original.copy();
+            Permanent mountain = stateWithoutMana.getBattlefield().getAllActivePermanents(playerA.getId()).stream()
+                    .filter(permanent -> permanent.getName().equals("Mountain"))
+                    .findFirst()
+                    .orElse(null);
+            Assert.assertNotNull(mountain);
+            mountain.setTapped(true);
+            stateWithMana.markChanged();
+            stateWithoutMana.markChanged();
+            Assert.assertEquals(stateWithMana.getChangeCounter(), stateWithoutMana.getChangeCounter());
+
+            game.setState(stateWithMana);
+            Assert.assertTrue(hasPlayableBolt(game.getPlayer(playerA.getId()).getPlayable(game, true)));
+            game.setState(stateWithoutMana);
+            Assert.assertFalse("must not use playable abilities of another state",
+                    hasPlayableBolt(game.getPlayer(playerA.getId()).getPlayable(game, true)));
+
+            game.setState(original);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private static boolean hasPlayableBolt(List<ActivatedAbility> playable) {
+        return playable.stream().anyMatch(ability -> ability.toString().startsWith("Cast Lightning Bolt"));
+    }
+}
@@ -0,0 +1,62 @@
+package org.mage.test.serverside;
+
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.server.util.ServerMetrics;
+import mage.util.GameExecutionSlots;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ServerMetricsTest {
+
+    @Test
+    public void test_Timer() {
+        ServerMetrics.Timer timer = new ServerMetrics.Timer();
+        Assert.assertEquals(0, timer.getPercentile(50));
+
+        for (int i = 0; i < 90; i++) {
+            timer.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+        for (int i = 0; i < 10; i++) {
+            timer.record(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        Assert.assertEquals(100, timer.getCount());
+        Assert.assertEquals(12.7, timer.getAverage(), 0.01);
+        Assert.assertEquals(100, timer.getMax());
+        Assert.assertEquals(4, timer.getPercentile(50)); // bucket's upper bound
+        Assert.assertEquals(4, timer.getPercentile(90));
+        Assert.assertEquals(100, timer.getPercentile(95)); // limited by max
+    }
+
+    @Test
+    public void test_Values() {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            ServerMetrics.instance.registerExecutor("test", executor);
+            ServerMetrics.instance.recordCallback(ClientCallbackMethod.GAME_UPDATE, TimeUnit.MILLISECONDS.toNanos(5));
+
+            // game threads timing
+            GameExecutionSlots.setMaxRunningGames(1);
+            GameExecutionSlots.enter();
+            GameExecutionSlots.park();
+            GameExecutionSlots.resume();
+            GameExecutionSlots.exit();
+
+            Map<String, Number> values = ServerMetrics.instance.getValues();
+            Assert.assertEquals(0, values.get("executor.test.queue").intValue());
+            Assert.assertTrue(values.get("jvm.heap.used").longValue() > 0);
+            Assert.assertTrue(values.get("callback.GAME_UPDATE.count").longValue() > 0);
+            Assert.assertTrue(values.get(ServerMetrics.GAME_START_LATENCY + ".count").longValue() > 0);
+            Assert.assertTrue(values.get(ServerMetrics.GAME_PRIORITY_LATENCY + ".count").longValue() > 0);
+            Assert.assertTrue(values.get(ServerMetrics.GAME_THINK + ".count").longValue() >= 2);
+            Assert.assertTrue(ServerMetrics.instance.getSummary().contains("executor.test.active"));
+        } finally {
+            GameExecutionSlots.setMaxRunningGames(0);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.mage.test.serverside;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.server.SessionCallbackQueue;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbound callbacks queue: order, coalescing of game updates and lazy data
+ */
+public class SessionCallbackQueueTest {
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID anotherGameId = UUID.randomUUID();
+
+    private ExecutorService executor;
+    private CountDownLatch slowClient;
+    private CountDownLatch allSent;
+    private List<String> sent;
+    private List<String> preparedData;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        slowClient = new CountDownLatch(1);
+        sent = Collections.synchronizedList(new ArrayList<>());
+        preparedData = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private SessionCallbackQueue createQueue(int needSent) {
+        allSent = new CountDownLatch(needSent);
+        return new SessionCallbackQueue(executor, (call, dataSupplier) -> {
+            try {
+                slowClient.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ignore) {
+            }
+            Object data = dataSupplier == null ? null : dataSupplier.get();
+            sent.add(call.getMethod() + (data == null ? "" : " " + data));
+            allSent.countDown();
+        });
+    }
+
+    private void addUpdate(SessionCallbackQueue queue, UUID objectId, String data) {
+        queue.add(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, objectId), () -> {
+            preparedData.add(data);
+            return data;
+        });
+    }
+
+    private void waitSendingStarted(SessionCallbackQueue queue) throws InterruptedException {
+        for (int i = 0; i < 100 && queue.size() > 0; i++) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals("sender must take first callback", 0, queue.size());
+    }
+
+    @Test
+    public void test_OrderAndCoalescing() throws InterruptedException {
+        SessionCallbackQueue queue = createQueue(5);
+
+        // first update is sending now (slow client)
+        addUpdate(queue, gameId, "u1");
+        waitSendingStarted(queue);
+        // waiting
+        queue.add(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, gameId), null);
+        addUpdate(queue, gameId, "u2");
+        addUpdate(queue, gameId, "u3");
+        addUpdate(queue, gameId, "u4"); // must replace u2 and u3
+        addUpdate(queue, anotherGameId, "a1"); // another game, can't replace
+        queue.add(new ClientCallback(ClientCallbackMethod.GAME_ASK, gameId), null);
+        addUpdate(queue, gameId, "u5"); // after dialog, can't replace
+        Assert.assertTrue(queue.size() <= 5);
+
+        slowClient.countDown();
+        allSent.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100); // possible wrong sends
+
+        Assert.assertEquals("coalesced updates must keep order of other callbacks", 6, sent.size());
+        Assert.assertEquals("GAME_UPDATE u1", sent.get(0));
+        Assert.assertEquals("CHATMESSAGE", sent.get(1));
+        Assert.assertEquals("GAME_UPDATE u4", sent.get(2));
+        Assert.assertEquals("GAME_UPDATE a1", sent.get(3));
+        Assert.assertEquals("GAME_ASK", sent.get(4));
+        Assert.assertEquals("GAME_UPDATE u5", sent.get(5));
+        Assert.assertFalse("replaced update's data must not be calculated", preparedData.contains("u2"));
+        Assert.assertFalse("replaced update's data must not be calculated", preparedData.contains("u3"));
+    }
+
+    @Test
+    public void test_Overflow() {
+        SessionCallbackQueue queue = createQueue(1);
+
+        // dialogs can't be dropped, so queue must be overflowed
+        boolean added = true;
+        for (int i = 0; i < SessionCallbackQueue.MAX_QUEUE_SIZE + 10 && added; i++) {
+            added = queue.add(new ClientCallback(ClientCallbackMethod.GAME_ASK, gameId), null);
+        }
+        Assert.assertFalse("queue must be bounded", added);
+
+        queue.close();
+        Assert.assertEquals(0, queue.size());
+        slowClient.countDown();
+    }
+
+    @Test
+    public void test_OverflowDropsOutdatedGameUpdatesOnly() throws InterruptedException {
+        SessionCallbackQueue queue = createQueue(1 + SessionCallbackQueue.MAX_QUEUE_SIZE);
+
+        // first update is sending now (slow client)
+        addUpdate(queue, gameId, "u1");
+        waitSendingStarted(queue);
+
+        // full queue
+        addUpdate(queue, gameId, "u2");
+        queue.add(new ClientCallback(ClientCallbackMethod.DRAFT_UPDATE, anotherGameId), null);
+        queue.add(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, gameId), null);
+        while (queue.size() < SessionCallbackQueue.MAX_QUEUE_SIZE) {
+            queue.add(new ClientCallback(ClientCallbackMethod.GAME_ASK, gameId), null);
+        }
+
+        // other updates can't replace anything, so it's overflow
+        Assert.assertFalse(queue.add(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, gameId), null));
+        Assert.assertFalse(queue.add(new ClientCallback(ClientCallbackMethod.TOURNAMENT_UPDATE, gameId), null));
+        Assert.assertFalse(queue.add(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, anotherGameId), null));
+        Assert.assertEquals(SessionCallbackQueue.MAX_QUEUE_SIZE, queue.size());
+
+        // newer game update replaces outdated one of the same game
+        addUpdate(queue, gameId, "u3");
+        Assert.assertEquals(SessionCallbackQueue.MAX_QUEUE_SIZE, queue.size());
+
+        slowClient.countDown();
+        Assert.assertTrue(allSent.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("GAME_UPDATE u1", sent.get(0));
+        Assert.assertEquals("DRAFT_UPDATE", sent.get(1));
+        Assert.assertEquals("GAME_UPDATE_AND_INFORM", sent.get(2));
+        Assert.assertEquals("GAME_UPDATE u3", sent.get(sent.size() - 1));
+        Assert.assertFalse("outdated update must be dropped", preparedData.contains("u2"));
+    }
+}
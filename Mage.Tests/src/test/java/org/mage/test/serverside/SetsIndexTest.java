@@ -0,0 +1,62 @@
+package org.mage.test.serverside;
+
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import mage.cards.SetsIndex;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.util.ClassScanner;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Build time sets index must be same as classpath scanning
+ */
+public class SetsIndexTest {
+
+    @Test
+    public void test_IndexMustBeActual() throws IOException {
+        URL url = Thread.currentThread().getContextClassLoader().getResource(SetsIndex.INDEX_RESOURCE);
+        Assume.assumeNotNull(url); // index generates by maven build only
+
+        Set<String> indexed = new TreeSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .forEach(indexed::add);
+        }
+        Set<String> scanned = ClassScanner.findClasses(null, Collections.singletonList("mage.sets"), ExpansionSet.class)
+                .stream()
+                .map(Class::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Assert.assertEquals("sets index is outdated, rebuild Mage.Sets", scanned, indexed);
+    }
+
+    @Test
+    public void test_FoundSetsMustBeLoaded() {
+        Assert.assertEquals(SetsIndex.findSetClasses().size(), Sets.getInstance().size());
+        Assert.assertNotNull(Sets.findSet("LEA"));
+    }
+
+    @Test
+    public void test_CardNumbersBySet() {
+        CardScanner.scan();
+        Map<String, Set<String>> cards = CardRepository.instance.getCardNumbersBySet();
+        ExpansionSet set = Sets.findSet("LEA");
+        Assert.assertTrue(cards.containsKey("LEA"));
+        Assert.assertTrue(set.getSetCardInfo().stream().allMatch(info -> cards.get("LEA").contains(info.getCardNumber())));
+    }
+}
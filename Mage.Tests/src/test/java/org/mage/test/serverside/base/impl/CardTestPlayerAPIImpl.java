@@ -7,6 +7,7 @@ import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousEffect;
 import mage.abilities.effects.ContinuousEffectsList;
 import mage.cards.Card;
+import mage.cards.CardPrototypes;
 import mage.cards.decks.Deck;
 import mage.cards.decks.DeckCardLists;
 import mage.cards.decks.importer.DeckImporter;
@@ -769,7 +770,7 @@ public abstract class CardTestPlayerAPIImpl extends MageTestPlayerBase implement
 
         if (gameZone == Zone.BATTLEFIELD) {
             for (int i = 0; i < count; i++) {
-                Card newCard = cardInfo.createCard();
+                Card newCard = CardPrototypes.createCard(cardInfo);
                 getBattlefieldCards(player).add(new PutToBattlefieldInfo(
                         newCard,
                         tapped
@@ -787,7 +788,7 @@ public abstract class CardTestPlayerAPIImpl extends MageTestPlayerBase implement
             }
             List<Card> cards = getCardList(gameZone, player);
             for (int i = 0; i < count; i++) {
-                Card newCard = cardInfo.createCard();
+                Card newCard = CardPrototypes.createCard(cardInfo);
                 cards.add(newCard);
                 if (!aliasName.isEmpty()) {
                     // add to all players
@@ -836,7 +837,7 @@ public abstract class CardTestPlayerAPIImpl extends MageTestPlayerBase implement
 
         if (gameZone == Zone.BATTLEFIELD) {
             for (int i = 0; i < count; i++) {
-                Card newCard = cardInfo.createCard();
+                Card newCard = CardPrototypes.createCard(cardInfo);
                 getBattlefieldCards(player).add(new PutToBattlefieldInfo(
                         newCard,
                         tapped
@@ -854,7 +855,7 @@ public abstract class CardTestPlayerAPIImpl extends MageTestPlayerBase implement
             }
             List<Card> cards = getCardList(gameZone, player);
             for (int i = 0; i < count; i++) {
-                Card newCard = cardInfo.createCard();
+                Card newCard = CardPrototypes.createCard(cardInfo);
                 cards.add(newCard);
                 if (!aliasName.isEmpty()) {
                     // add to all players
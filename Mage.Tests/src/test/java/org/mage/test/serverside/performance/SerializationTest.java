@@ -15,11 +15,17 @@ import mage.counters.CounterType;
 import mage.game.mulligan.LondonMulligan;
 import mage.game.permanent.PermanentCard;
 import mage.game.permanent.PermanentImpl;
+import mage.remote.traffic.CompactObjectImpl;
+import mage.remote.traffic.ZippedObject;
 import mage.remote.traffic.ZippedObjectImpl;
+import mage.server.game.SharedGameView;
 import mage.util.CardUtil;
 import mage.utils.CompressUtil;
 import mage.util.ThreadUtils;
 import mage.view.GameView;
+import mage.view.GameViewDelta;
+import mage.view.GameViewDeltaDecoder;
+import mage.view.GameViewDeltaEncoder;
 import org.jboss.remoting.serialization.impl.java.ClearableObjectOutputStream;
 import org.jboss.serial.io.JBossObjectInputStream;
 import org.jboss.serial.io.JBossObjectOutputStream;
@@ -47,7 +53,7 @@ public class SerializationTest extends CardTestPlayerBase {
         currentGame.addPermanent(permanent, 0);
 
         Object compressed = CompressUtil.compress(permanent);
-        Assert.assertTrue("Must be zip", compressed instanceof ZippedObjectImpl);
+        Assert.assertTrue("Must be zip", compressed instanceof ZippedObject);
         PermanentImpl uncompressed = (PermanentImpl) CompressUtil.decompress(compressed);
         Assert.assertEquals("Must be same", permanent.getName(), uncompressed.getName());
     }
@@ -66,7 +72,7 @@ public class SerializationTest extends CardTestPlayerBase {
 
         // test compress (it uses default java serialization)
         Object compressed = CompressUtil.compress(permanent);
-        Assert.assertTrue("Must be zip", compressed instanceof ZippedObjectImpl);
+        Assert.assertTrue("Must be zip", compressed instanceof ZippedObject);
         PermanentImpl uncompressed = (PermanentImpl) CompressUtil.decompress(compressed);
         Assert.assertEquals("Must be same", permanent.getName(), uncompressed.getName());
 
@@ -90,7 +96,7 @@ public class SerializationTest extends CardTestPlayerBase {
                     // card
                     {
                         Object compressed = CompressUtil.compress(card);
-                        Assert.assertTrue("Must be zip", compressed instanceof ZippedObjectImpl);
+                        Assert.assertTrue("Must be zip", compressed instanceof ZippedObject);
                         Card uncompressed = (Card) CompressUtil.decompress(compressed);
                         Assert.assertEquals("Must be same", card.getName(), uncompressed.getName());
                     }
@@ -98,7 +104,7 @@ public class SerializationTest extends CardTestPlayerBase {
                     // permanent
                     if (testPermanent != null) {
                         Object compressed = CompressUtil.compress(testPermanent);
-                        Assert.assertTrue("Must be zip", compressed instanceof ZippedObjectImpl);
+                        Assert.assertTrue("Must be zip", compressed instanceof ZippedObject);
                         Card uncompressed = (Card) CompressUtil.decompress(compressed);
                         Assert.assertEquals("Must be same", testPermanent.getName(), uncompressed.getName());
                     }
@@ -156,7 +162,7 @@ public class SerializationTest extends CardTestPlayerBase {
     public void test_LondonMulligan() {
         LondonMulligan mulligan = new LondonMulligan(15);
         Object compressed = CompressUtil.compress(mulligan);
-        Assert.assertTrue("Must be zip", compressed instanceof ZippedObjectImpl);
+        Assert.assertTrue("Must be zip", compressed instanceof ZippedObject);
         LondonMulligan uncompressed = (LondonMulligan) CompressUtil.decompress(compressed);
         Assert.assertEquals("Must be same", mulligan.getFreeMulligans(), uncompressed.getFreeMulligans());
     }
@@ -170,11 +176,145 @@ public class SerializationTest extends CardTestPlayerBase {
 
         GameView gameView = getGameView(playerA);
         Object compressed = CompressUtil.compress(gameView);
-        Assert.assertTrue("Must be zip", compressed instanceof ZippedObjectImpl);
+        Assert.assertTrue("Must be zip", compressed instanceof ZippedObject);
         GameView uncompressed = (GameView) CompressUtil.decompress(compressed);
         Assert.assertEquals("Must be same", 1, uncompressed.getPlayers().get(0).getBattlefield().size());
     }
 
+    @Test
+    public void test_GameViewDelta() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.HAND, playerA, "Balduvian Bears", 1);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameViewDeltaEncoder encoder = new GameViewDeltaEncoder();
+        GameViewDeltaDecoder decoder = new GameViewDeltaDecoder();
+
+        // first update - full
+        GameViewDelta delta = encoder.encode(getGameView(playerA));
+        Assert.assertNotNull(delta);
+        Assert.assertTrue(delta.isFull());
+        Assert.assertEquals(delta.getCardsTotal(), delta.getCardsSent());
+        GameView restored = decoder.decode((GameViewDelta) CompressUtil.decompress(CompressUtil.compress(delta)));
+        Assert.assertNotNull(restored);
+        Assert.assertEquals(4, restored.getPlayers().get(0).getBattlefield().size());
+        Assert.assertEquals(1, restored.getMyHand().values().stream().filter(card -> card.getName().equals("Balduvian Bears")).count());
+
+        // second update - changed cards only
+        getPermanent("Grizzly Bears", playerA).tap(null, currentGame);
+        delta = encoder.encode(getGameView(playerA));
+        Assert.assertNotNull(delta);
+        Assert.assertFalse(delta.isFull());
+        Assert.assertTrue("must send changed cards only", delta.getCardsSent() < delta.getCardsTotal());
+        restored = decoder.decode(delta);
+        Assert.assertNotNull(restored);
+        Assert.assertEquals(4, restored.getPlayers().get(0).getBattlefield().size());
+        Assert.assertEquals(1, restored.getMyHand().values().stream().filter(card -> card.getName().equals("Balduvian Bears")).count());
+        Assert.assertTrue(restored.getPlayers().get(0).getBattlefield().values().stream()
+                .filter(card -> card.getName().equals("Grizzly Bears"))
+                .allMatch(card -> card.isTapped()));
+
+        // missed update - desync
+        encoder.encode(getGameView(playerA));
+        delta = encoder.encode(getGameView(playerA));
+        Assert.assertNull("must find desync", decoder.decode(delta));
+
+        // full view after desync
+        encoder.reset();
+        delta = encoder.encode(getGameView(playerA));
+        Assert.assertTrue(delta.isFull());
+        restored = decoder.decode(delta);
+        Assert.assertNotNull(restored);
+        Assert.assertEquals(4, restored.getPlayers().get(0).getBattlefield().size());
+    }
+
+    @Test
+    public void test_SharedGameView_Watchers() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 3);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameViewDeltaEncoder watchersEncoder = new GameViewDeltaEncoder();
+        GameViewDeltaDecoder watcher1 = new GameViewDeltaDecoder();
+        GameViewDeltaDecoder watcher2 = new GameViewDeltaDecoder();
+
+        // update 1: first watcher joins
+        SharedGameView shared = new SharedGameView(currentGame, watchersEncoder);
+        Assert.assertSame("public data must be calculated once", shared.getPublicDeltaData(), shared.getPublicDeltaData());
+        Assert.assertNotNull(watcher1.decode((GameViewDelta) CompressUtil.decompress(shared.getPublicFullData())));
+
+        // update 2: second watcher joins by full view, first gets delta
+        getPermanent("Grizzly Bears", playerA).tap(null, currentGame);
+        shared = new SharedGameView(currentGame, watchersEncoder);
+        Assert.assertFalse(shared.getPublicDelta().isFull());
+        Assert.assertNotNull(watcher1.decode((GameViewDelta) CompressUtil.decompress(shared.getPublicDeltaData())));
+        Assert.assertNotNull(watcher2.decode((GameViewDelta) CompressUtil.decompress(shared.getPublicFullData())));
+
+        // update 3: both use same delta
+        getPermanent("Grizzly Bears", playerA).untap(currentGame);
+        shared = new SharedGameView(currentGame, watchersEncoder);
+        GameView view1 = watcher1.decode((GameViewDelta) CompressUtil.decompress(shared.getPublicDeltaData()));
+        GameView view2 = watcher2.decode((GameViewDelta) CompressUtil.decompress(shared.getPublicDeltaData()));
+        Assert.assertNotNull(view1);
+        Assert.assertNotNull(view2);
+        Assert.assertFalse(view1.isPlayer());
+        Assert.assertEquals(2, view1.getPlayers().size());
+        Assert.assertEquals(view1.getPlayers().get(0).getBattlefield().keySet(), view2.getPlayers().get(0).getBattlefield().keySet());
+        Assert.assertEquals(view1.getPlayers().get(1).getBattlefield().size(), view2.getPlayers().get(1).getBattlefield().size());
+    }
+
+    @Test
+    public void test_CompactCodec() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 5);
+        addCard(Zone.HAND, playerA, "Balduvian Bears", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 5);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameView gameView = getGameView(playerA);
+        Object compact = CompressUtil.compressCompact(gameView);
+        Object java = CompressUtil.compressJava(gameView);
+        Assert.assertTrue("Must be compact", compact instanceof CompactObjectImpl);
+
+        GameView uncompressed = (GameView) CompressUtil.decompress(compact);
+        Assert.assertNotNull(uncompressed);
+        Assert.assertEquals(8, uncompressed.getPlayers().get(0).getBattlefield().size());
+        Assert.assertEquals(5, uncompressed.getPlayers().get(1).getBattlefield().size());
+        Assert.assertEquals(gameView.getMyHand().keySet(), uncompressed.getMyHand().keySet());
+        Assert.assertEquals(gameView.getPhase(), uncompressed.getPhase());
+        Assert.assertEquals(gameView.getStep(), uncompressed.getStep());
+        Assert.assertEquals(2, uncompressed.getMyHand().values().stream().filter(card -> card.getName().equals("Balduvian Bears")).count());
+
+        // compact must be smaller than default serialization
+        int compactSize = serializedSize(compact);
+        int javaSize = serializedSize(java);
+        Assert.assertTrue("compact data must be smaller: " + compactSize + " vs " + javaSize, compactSize < javaSize);
+
+        // small data without compression
+        Object small = CompressUtil.compressCompact("test");
+        Assert.assertEquals("test", CompressUtil.decompress(small));
+    }
+
+    private static int serializedSize(Object object) {
+        // real network size (data goes as java object)
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+                out.writeObject(object);
+            }
+            return bos.size();
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't serialize " + object.getClass().getName(), e);
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void test_Choices_MustHaveProtectionFromKeySetUsage() {
         Map<String, Ability> abilityMap = new HashMap<>();
@@ -201,7 +341,7 @@ public class SerializationTest extends CardTestPlayerBase {
         choice.setChoices(new LinkedHashSet<>(abilityMap.keySet()));
 
         Object compressed = CompressUtil.compress(choice);
-        Assert.assertTrue("Must be zip", compressed instanceof ZippedObjectImpl);
+        Assert.assertTrue("Must be zip", compressed instanceof ZippedObject);
         Choice uncompressed = (Choice) CompressUtil.decompress(compressed);
         Assert.assertEquals("Must be same", choice.getChoices().size(), uncompressed.getChoices().size());
     }
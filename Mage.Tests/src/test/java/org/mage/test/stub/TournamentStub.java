@@ -110,6 +110,11 @@ public class TournamentStub implements Tournament {
 
     }
 
+    @Override
+    public void matchEnded() {
+
+    }
+
     @Override
     public void leave(UUID playerId) {
 
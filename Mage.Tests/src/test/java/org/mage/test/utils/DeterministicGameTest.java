@@ -0,0 +1,157 @@
+package org.mage.test.utils;
+
+import mage.cards.Card;
+import mage.cards.decks.Deck;
+import mage.cards.decks.DeckCardInfo;
+import mage.cards.decks.DeckCardLists;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.game.*;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.mulligan.MulliganType;
+import mage.game.permanent.Permanent;
+import mage.player.ai.ComputerPlayer;
+import mage.player.ai.ComputerPlayer7;
+import mage.players.Player;
+import mage.util.RandomUtil;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Deterministic mode must replay the same AI game for the same seed, see RandomUtil.setDeterministicSeed
+ * <p>
+ * Same setup as AI games runner from benchmarks (fixed decks, fake match, small turns limit)
+ */
+public class DeterministicGameTest {
+
+    private static final int MAX_TURNS = 4;
+    private static final int AI_SKILL = 1;
+
+    private static final List<String> DECK = Arrays.asList(
+            "Forest", "Island", "Plains", "Mountain",
+            "Grizzly Bears", "Serra Angel", "Lightning Bolt", "Divination"
+    );
+    private static final int DECK_COPIES = 5;
+
+    @BeforeClass
+    public static void init() throws GameException {
+        CardScanner.scan();
+        // first deck load creates static objects (e.g. singleton abilities), so keep it out of the games ids
+        createDeck();
+    }
+
+    private static Deck createDeck() throws GameException {
+        DeckCardLists list = new DeckCardLists();
+        list.setName("Deterministic test deck");
+        for (String cardName : DECK) {
+            CardInfo cardInfo = CardRepository.instance.findPreferredCoreExpansionCard(cardName);
+            Assert.assertNotNull("Can't find card in cards db: " + cardName, cardInfo);
+            list.getCards().add(new DeckCardInfo(cardInfo.getName(), cardInfo.getCardNumber(), cardInfo.getSetCode(), DECK_COPIES));
+        }
+        return Deck.load(list, false, false);
+    }
+
+    private static Player createPlayer(String type, String name) {
+        switch (type) {
+            case "simple":
+                return new ComputerPlayer(name, RangeOfInfluence.ONE);
+            case "mad":
+                return new ComputerPlayer7(name, RangeOfInfluence.ONE, AI_SKILL);
+            default:
+                throw new IllegalArgumentException("Unknown player type: " + type);
+        }
+    }
+
+    private static Player addPlayer(Match match, Game game, Player player) throws GameException {
+        player.setTestMode(true);
+        Deck deck = createDeck();
+        game.loadCards(deck.getCards(), player.getId());
+        game.addPlayer(player, deck);
+        match.addPlayer(player, deck);
+        return player;
+    }
+
+    /**
+     * @return final game state: turn, priorities count, players and zones with object ids
+     */
+    private static String playSeededGame(long seed, String playerTypeA, String playerTypeB) throws GameException {
+        RandomUtil.setDeterministicSeed(seed);
+        try {
+            Match match = new TwoPlayerMatch(new MatchOptions("test match", "test game type", false));
+            Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ONE, MulliganType.GAME_DEFAULT.getMulligan(0), 40, 20, 7);
+            Player playerA = addPlayer(match, game, createPlayer(playerTypeA, "PlayerA"));
+            addPlayer(match, game, createPlayer(playerTypeB, "PlayerB"));
+
+            GameOptions options = new GameOptions();
+            options.testMode = true;
+            options.stopOnTurn = MAX_TURNS;
+            options.stopAtStep = PhaseStep.END_TURN;
+            game.setGameOptions(options);
+            game.setStartingPlayerId(playerA.getId());
+            game.start(null);
+
+            StringBuilder state = new StringBuilder();
+            state.append("turn ").append(game.getState().getTurnNum())
+                    .append(", priorities ").append(game.getState().priorityCounter)
+                    .append('\n');
+            for (Player player : game.getPlayers().values()) {
+                state.append(player.getName()).append(' ').append(player.getId())
+                        .append(", life ").append(player.getLife())
+                        .append("\n  hand: ").append(cardsInfo(player.getHand().getCards(game)))
+                        .append("\n  library: ").append(cardsInfo(player.getLibrary().getCards(game)))
+                        .append("\n  graveyard: ").append(cardsInfo(player.getGraveyard().getCards(game)))
+                        .append("\n  battlefield: ").append(game.getBattlefield().getAllActivePermanents(player.getId()).stream()
+                                .map(DeterministicGameTest::permanentInfo)
+                                .sorted()
+                                .collect(Collectors.joining(", ")))
+                        .append('\n');
+            }
+            return state.toString();
+        } finally {
+            RandomUtil.clearDeterministicSeed();
+        }
+    }
+
+    private static String cardsInfo(Collection<Card> cards) {
+        // library and hand keep its order
+        return cards.stream()
+                .map(card -> card.getName() + ' ' + card.getId())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String permanentInfo(Permanent permanent) {
+        return permanent.getName() + ' ' + permanent.getId()
+                + (permanent.isTapped() ? " tapped" : "")
+                + " damage " + permanent.getDamage();
+    }
+
+    private void assertSameGames(long seed, String playerTypeA, String playerTypeB) throws GameException {
+        String game1 = playSeededGame(seed, playerTypeA, playerTypeB);
+        String game2 = playSeededGame(seed, playerTypeA, playerTypeB);
+        Assert.assertEquals("same seed must replay same game (" + playerTypeA + " vs " + playerTypeB + ")", game1, game2);
+
+        String anotherGame = playSeededGame(seed + 1, playerTypeA, playerTypeB);
+        Assert.assertNotEquals("another seed must play another game", game1, anotherGame);
+    }
+
+    @Test
+    public void test_SimpleAI_SameSeedMustReplaySameGame() throws GameException {
+        assertSameGames(1, "simple", "simple");
+    }
+
+    @Test
+    public void test_MadAI_SameSeedMustReplaySameGame() throws GameException {
+        assertSameGames(1, "mad", "simple");
+    }
+}
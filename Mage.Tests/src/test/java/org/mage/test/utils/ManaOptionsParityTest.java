@@ -0,0 +1,64 @@
+package org.mage.test.utils;
+
+import mage.Mana;
+import mage.abilities.mana.CompactManaOptions;
+import mage.abilities.mana.ManaOptions;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Runs all {@link ManaOptionsTest} checks with the default mana calculation
+ * (parent class uses {@link CompactManaOptions}) and compares both calculations
+ * on a big board with multi-color sources.
+ */
+public class ManaOptionsParityTest extends ManaOptionsTest {
+
+    @Before
+    public void disableCompactMana() {
+        CompactManaOptions.setEnabled(false);
+    }
+
+    @After
+    public void enableCompactMana() {
+        CompactManaOptions.setEnabled(true);
+    }
+
+    private static Set<String> toStrings(ManaOptions manaOptions) {
+        Set<String> res = new TreeSet<>();
+        for (Mana mana : manaOptions) {
+            res.add(mana.toString());
+        }
+        return res;
+    }
+
+    @Test
+    public void test_SameResultOnManyMultiColorSources() {
+        addCard(Zone.BATTLEFIELD, playerA, "Adarkar Wastes", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "City of Brass", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Birds of Paradise", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Tinder Farm", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Sunpetal Grove", 2);
+
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        CompactManaOptions.setEnabled(false);
+        ManaOptions defaultMana = playerA.getAvailableManaTest(currentGame);
+        CompactManaOptions.setEnabled(true);
+        ManaOptions compactMana = playerA.getAvailableManaTest(currentGame);
+        // second call must use cached combinations
+        ManaOptions cachedMana = playerA.getAvailableManaTest(currentGame);
+
+        Assert.assertEquals(toStrings(defaultMana), toStrings(compactMana));
+        Assert.assertEquals(toStrings(defaultMana), toStrings(cachedMana));
+    }
+}
@@ -73,6 +73,46 @@ public class RandomTest {
         Assert.assertNotEquals("different seed must have different deck", infoSameA, infoDifferent);
     }
 
+    @Test
+    public void test_DeterministicIds() {
+        try {
+            RandomUtil.setDeterministicSeed(123);
+            List<UUID> idsSameA = new ArrayList<>();
+            for (int i = 1; i <= 10; i++) {
+                idsSameA.add(RandomUtil.randomUUID());
+            }
+            long localRandomA = RandomUtil.createRandom().nextLong();
+            int valueA = RandomUtil.nextInt();
+
+            // ids must not change other random values
+            RandomUtil.setDeterministicSeed(123);
+            List<UUID> idsSameB = new ArrayList<>();
+            for (int i = 1; i <= 10; i++) {
+                idsSameB.add(RandomUtil.randomUUID());
+            }
+            long localRandomB = RandomUtil.createRandom().nextLong();
+            RandomUtil.randomUUID();
+            int valueB = RandomUtil.nextInt();
+
+            Assert.assertEquals("same seed must have same ids", idsSameA, idsSameB);
+            Assert.assertEquals("same seed must have same local random", localRandomA, localRandomB);
+            Assert.assertEquals("ids must use own random", valueA, valueB);
+            Assert.assertEquals("must have random UUID format", 4, idsSameA.get(0).version());
+
+            // shared objects must use real random ids
+            UUID sharedId = RandomUtil.callWithRandomIds(RandomUtil::randomUUID);
+            Assert.assertTrue(RandomUtil.isDeterministic());
+            Assert.assertFalse(idsSameA.contains(sharedId));
+
+            RandomUtil.clearDeterministicSeed();
+            Assert.assertFalse(RandomUtil.isDeterministic());
+            RandomUtil.setSeed(123);
+            Assert.assertNotEquals("normal mode must have random ids", idsSameA.get(0), RandomUtil.randomUUID());
+        } finally {
+            RandomUtil.clearDeterministicSeed();
+        }
+    }
+
     @Test
     @Ignore
     public void test_GenerateRandomPng() throws IOException {
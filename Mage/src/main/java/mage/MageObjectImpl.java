@@ -16,6 +16,7 @@ import mage.game.Game;
 import mage.game.MageObjectAttribute;
 import mage.game.events.ZoneChangeEvent;
 import mage.util.GameLog;
+import mage.util.RandomUtil;
 import mage.util.SubTypes;
 import org.apache.log4j.Logger;
 
@@ -55,7 +56,7 @@ public abstract class MageObjectImpl implements MageObject {
     protected MageObject copyFrom; // copied card INFO (used to call original adjusters)
 
     public MageObjectImpl() {
-        this(UUID.randomUUID());
+        this(RandomUtil.randomUUID());
     }
 
     public MageObjectImpl(UUID id) {
@@ -46,6 +46,7 @@ import mage.target.targetadjustment.GenericTargetAdjuster;
 import mage.target.targetadjustment.TargetAdjuster;
 import mage.util.CardUtil;
 import mage.util.GameLog;
+import mage.util.RandomUtil;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
@@ -97,7 +98,7 @@ public abstract class AbilityImpl implements Ability {
     private Map<String, Object> costsTagMap = null;
 
     protected AbilityImpl(AbilityType abilityType, Zone zone) {
-        this.id = UUID.randomUUID();
+        this.id = RandomUtil.randomUUID();
         this.originalId = id;
         this.abilityType = abilityType;
         this.zone = zone;
@@ -153,7 +154,7 @@ public abstract class AbilityImpl implements Ability {
     @Override
     public void newId() {
         if (!(this instanceof MageSingleton)) {
-            this.id = UUID.randomUUID();
+            this.id = RandomUtil.randomUUID();
         }
         getEffects().newId();
 
@@ -175,8 +176,10 @@ public abstract class AbilityImpl implements Ability {
 
     @Override
     public void newOriginalId() {
-        this.id = UUID.randomUUID();
-        this.originalId = id;
+        if (!(this instanceof MageSingleton)) {
+            this.id = RandomUtil.randomUUID();
+            this.originalId = id;
+        }
         getEffects().newId();
     }
 
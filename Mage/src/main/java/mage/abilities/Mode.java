@@ -6,6 +6,7 @@ import mage.abilities.effects.Effects;
 import mage.game.Game;
 import mage.target.Target;
 import mage.target.Targets;
+import mage.util.RandomUtil;
 
 import java.io.Serializable;
 import java.util.UUID;
@@ -29,7 +30,7 @@ public class Mode implements Serializable {
     protected String modeTag;
 
     public Mode(Effect effect) {
-        this.id = UUID.randomUUID();
+        this.id = RandomUtil.randomUUID();
         this.targets = new Targets();
         this.effects = new Effects();
         if (effect != null) {
@@ -48,7 +49,7 @@ public class Mode implements Serializable {
     }
 
     public UUID setRandomId() {
-        return this.id = UUID.randomUUID();
+        return this.id = RandomUtil.randomUUID();
     }
     public UUID setRandomId(Game game) {
         return this.id = new UUID(game.getLocalRandom().nextLong(), game.getLocalRandom().nextLong());
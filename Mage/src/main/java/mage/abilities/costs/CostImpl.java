@@ -4,6 +4,7 @@ import mage.abilities.Ability;
 import mage.game.Game;
 import mage.target.Target;
 import mage.target.Targets;
+import mage.util.RandomUtil;
 
 import java.util.UUID;
 
@@ -15,7 +16,7 @@ public abstract class CostImpl implements Cost {
     private Targets targets;
 
     public CostImpl() {
-        id = UUID.randomUUID();
+        id = RandomUtil.randomUUID();
         paid = false;
         targets = null; // rare usage, must be null by default for performance optimization
     }
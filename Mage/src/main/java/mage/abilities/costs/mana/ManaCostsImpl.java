@@ -16,6 +16,7 @@ import mage.players.Player;
 import mage.target.Targets;
 import mage.util.CardUtil;
 import mage.util.ManaUtil;
+import mage.util.RandomUtil;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,11 +35,11 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     private static final Map<String, ManaCosts> costsCache = new ConcurrentHashMap<>(); // must be thread safe, can't use nulls
 
     public ManaCostsImpl() {
-        this.id = UUID.randomUUID();
+        this.id = RandomUtil.randomUUID();
     }
 
     public ManaCostsImpl(String mana) {
-        this.id = UUID.randomUUID();
+        this.id = RandomUtil.randomUUID();
         load(mana);
     }
 
@@ -317,7 +317,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public boolean checkIfThereArePayCostToAttackBlockEffects(GameEvent event, Game game) {
-        for (ReplacementEffect effect : replacementEffects) {
+        for (ReplacementEffect effect : replacementEffects.getReplacementEffects(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -354,8 +354,8 @@ public class ContinuousEffects implements Serializable {
         }
         // boolean checkLKI = event.getType().equals(EventType.ZONE_CHANGE) || event.getType().equals(EventType.DESTROYED_PERMANENT);
         //get all applicable transient Replacement effects
-        for (Iterator<ReplacementEffect> iterator = replacementEffects.iterator(); iterator.hasNext(); ) {
-            ReplacementEffect effect = iterator.next();
+        // indexed by event type, so most of the events (mana, damage, zone changes) skip the effects scan
+        for (ReplacementEffect effect : replacementEffects.getReplacementEffects(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -387,8 +387,7 @@ public class ContinuousEffects implements Serializable {
             }
         }
 
-        for (Iterator<PreventionEffect> iterator = preventionEffects.iterator(); iterator.hasNext(); ) {
-            PreventionEffect effect = iterator.next();
+        for (PreventionEffect effect : preventionEffects.getReplacementEffects(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
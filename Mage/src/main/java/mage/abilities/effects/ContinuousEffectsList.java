@@ -7,6 +7,7 @@ import mage.cards.Card;
 import mage.constants.Duration;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 import org.apache.log4j.Logger;
@@ -24,6 +25,10 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
     // the effectAbilityMap holds for each effect all abilities that are connected (used) with this effect
     private final Map<UUID, Set<Ability>> effectAbilityMap = new HashMap<>();
 
+    // replacement effects by checked event type, rebuilds on any list modification (see getReplacementEffects)
+    private transient Map<GameEvent.EventType, List<T>> eventTypeIndex;
+    private transient int eventTypeIndexModCount;
+
     public ContinuousEffectsList() {
     }
 
@@ -45,6 +50,33 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         return new ContinuousEffectsList<>(this);
     }
 
+    /**
+     * Replacement effects that can check the given event type (in the list's order),
+     * see {@link ReplacementEffect#getCheckedEventTypes()}. Effects without declared
+     * types are always included. Returned list is a snapshot, don't modify it.
+     */
+    public List<T> getReplacementEffects(GameEvent.EventType eventType) {
+        if (eventTypeIndex == null || eventTypeIndexModCount != modCount) {
+            eventTypeIndex = new EnumMap<>(GameEvent.EventType.class);
+            eventTypeIndexModCount = modCount;
+        }
+        return eventTypeIndex.computeIfAbsent(eventType, type -> {
+            List<T> res = null;
+            for (T effect : this) {
+                Set<GameEvent.EventType> checkedTypes = effect instanceof ReplacementEffect
+                        ? ((ReplacementEffect) effect).getCheckedEventTypes()
+                        : null;
+                if (checkedTypes == null || checkedTypes.contains(type)) {
+                    if (res == null) {
+                        res = new ArrayList<>();
+                    }
+                    res.add(effect);
+                }
+            }
+            return res == null ? Collections.emptyList() : res;
+        });
+    }
+
     public void removeEndOfTurnEffects(Game game) {
         // calls every turn on cleanup step (only end of turn duration)
         // rules 514.2
@@ -12,6 +12,10 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.players.Player;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -35,6 +39,10 @@ public abstract class PayCostToAttackBlockEffectImpl extends ReplacementEffectIm
         }
     }
 
+    private static final Set<EventType> ATTACK_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(EventType.DECLARE_ATTACKER));
+    private static final Set<EventType> BLOCK_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(EventType.DECLARE_BLOCKER));
+    private static final Set<EventType> ATTACK_AND_BLOCK_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(EventType.DECLARE_ATTACKER, EventType.DECLARE_BLOCKER));
+
     protected final Cost cost;
     protected final ManaCosts manaCosts;
     protected final RestrictType restrictType;
@@ -86,6 +94,25 @@ public abstract class PayCostToAttackBlockEffectImpl extends ReplacementEffectIm
         return false;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        Set<EventType> eventTypes;
+        switch (restrictType) {
+            case ATTACK:
+                eventTypes = ATTACK_EVENT_TYPES;
+                break;
+            case BLOCK:
+                eventTypes = BLOCK_EVENT_TYPES;
+                break;
+            case ATTACK_AND_BLOCK:
+                eventTypes = ATTACK_AND_BLOCK_EVENT_TYPES;
+                break;
+            default:
+                return null;
+        }
+        return checkedEventTypesOf(PayCostToAttackBlockEffectImpl.class, eventTypes);
+    }
+
     @Override
     public boolean replaceEvent(GameEvent event, Ability source, Game game) {
         ManaCosts attackBlockManaTax = getManaCostToPay(event, source, game);
@@ -10,11 +10,19 @@ import mage.game.Game;
 import mage.game.events.DamageEvent;
 import mage.game.events.GameEvent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public abstract class PreventionEffectImpl extends ReplacementEffectImpl implements PreventionEffect {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(
+            EnumSet.of(GameEvent.EventType.DAMAGE_PERMANENT, GameEvent.EventType.DAMAGE_PLAYER)
+    );
+
     protected DynamicValue amountToPreventDynamic;
     protected int amountToPrevent;
     protected final boolean onlyCombat;
@@ -95,6 +103,11 @@ public abstract class PreventionEffectImpl extends ReplacementEffectImpl impleme
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return checkedEventTypesOf(PreventionEffectImpl.class, CHECKED_EVENT_TYPES);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return event.getFlag() && (!onlyCombat || ((DamageEvent) event).isCombatDamage());
@@ -12,11 +12,19 @@ import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.Target;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public abstract class RedirectionEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(
+            EnumSet.of(GameEvent.EventType.DAMAGE_PERMANENT, GameEvent.EventType.DAMAGE_PLAYER)
+    );
+
     public enum UsageType {
         ACCORDING_DURATION,
         ONE_USAGE_ABSOLUTE,
@@ -58,6 +66,11 @@ public abstract class RedirectionEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return checkedEventTypesOf(RedirectionEffect.class, CHECKED_EVENT_TYPES);
+    }
+
     @Override
     public boolean replaceEvent(GameEvent event, Ability source, Game game) {
         int damageToRedirect = event.getAmount();
@@ -4,6 +4,8 @@ import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -22,6 +24,17 @@ public interface ReplacementEffect extends ContinuousEffect {
      */
     boolean checksEventType(GameEvent event, Game game);
 
+    /**
+     * Event types that can pass {@link #checksEventType(GameEvent, Game)}, used
+     * to index replacement effects by event type. Must be a superset of the
+     * checked types and must not change while the effect is active.
+     *
+     * @return null if the effect can check any event type
+     */
+    default Set<GameEvent.EventType> getCheckedEventTypes() {
+        return null;
+    }
+
     boolean applies(GameEvent event, Ability source, Game game);
 
     boolean hasSelfScope();
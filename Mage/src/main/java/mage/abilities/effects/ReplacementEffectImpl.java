@@ -5,6 +5,11 @@ import mage.constants.Duration;
 import mage.constants.EffectType;
 import mage.constants.Outcome;
 import mage.game.Game;
+import mage.game.events.GameEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -23,6 +28,9 @@ public abstract class ReplacementEffectImpl extends ContinuousEffectImpl impleme
     // continuous effects from any other source that would affect it.
     protected boolean selfScope;
 
+    // effect class -> class with the used checksEventType implementation
+    private static final Map<Class<?>, Class<?>> checksEventTypeOwners = new ConcurrentHashMap<>();
+
     protected ReplacementEffectImpl(Duration duration, Outcome outcome) {
         this(duration, outcome, true);
     }
@@ -49,6 +57,21 @@ public abstract class ReplacementEffectImpl extends ContinuousEffectImpl impleme
         return selfScope;
     }
 
+    /**
+     * Helper for getCheckedEventTypes: returns the declared types only if checksEventType
+     * is not overridden after the declaring class (e.g. by a card's subclass)
+     */
+    protected final Set<GameEvent.EventType> checkedEventTypesOf(Class<?> declaringClass, Set<GameEvent.EventType> eventTypes) {
+        Class<?> owner = checksEventTypeOwners.computeIfAbsent(this.getClass(), clazz -> {
+            try {
+                return clazz.getMethod("checksEventType", GameEvent.class, Game.class).getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return clazz;
+            }
+        });
+        return owner == declaringClass ? eventTypes : null;
+    }
+
     @Override
     public final boolean apply(Game game, Ability source) {
         throw new UnsupportedOperationException("Wrong code usage: apply() not used for replacement effect.");
@@ -12,11 +12,19 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.util.CardUtil;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
 public class EntersWithCountersControlledEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(
+            EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD)
+    );
+
     private final FilterPermanent filter;
     private final Counter counter;
     private final boolean excludeSource;
@@ -45,6 +53,11 @@ public class EntersWithCountersControlledEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return checkedEventTypesOf(EntersWithCountersControlledEffect.class, CHECKED_EVENT_TYPES);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (excludeSource && event.getTargetId().equals(source.getSourceId())) {
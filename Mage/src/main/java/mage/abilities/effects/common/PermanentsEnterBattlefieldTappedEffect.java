@@ -11,11 +11,19 @@ import mage.game.events.EntersTheBattlefieldEvent;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Eirkei
  */
 public class PermanentsEnterBattlefieldTappedEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(
+            EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD)
+    );
+
     protected final FilterPermanent filter;
 
     public PermanentsEnterBattlefieldTappedEffect(FilterPermanent filter) {
@@ -46,6 +54,11 @@ public class PermanentsEnterBattlefieldTappedEffect extends ReplacementEffectImp
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return checkedEventTypesOf(PermanentsEnterBattlefieldTappedEffect.class, CHECKED_EVENT_TYPES);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Permanent permanent = ((EntersTheBattlefieldEvent) event).getTarget();
@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.util.CardUtil;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,6 +21,10 @@ import java.util.UUID;
  */
 public class RegenerateSourceEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(
+            EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT, GameEvent.EventType.ZONE_CHANGE)
+    );
+
     public RegenerateSourceEffect() {
         this("{this}");
     }
@@ -61,6 +68,11 @@ public class RegenerateSourceEffect extends ReplacementEffectImpl {
                 || event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return checkedEventTypesOf(RegenerateSourceEffect.class, CHECKED_EVENT_TYPES);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         // The regeneration effect is discarded if the permanent is blinked or changes zone
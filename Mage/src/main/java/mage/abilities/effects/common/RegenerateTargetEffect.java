@@ -10,11 +10,19 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author maurer.it_at_gmail.com
  */
 public class RegenerateTargetEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(
+            EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT)
+    );
+
     public RegenerateTargetEffect() {
         super(Duration.EndOfTurn, Outcome.Regenerate);
     }
@@ -50,6 +58,11 @@ public class RegenerateTargetEffect extends ReplacementEffectImpl {
         return EventType.DESTROY_PERMANENT == event.getType();
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return checkedEventTypesOf(RegenerateTargetEffect.class, CHECKED_EVENT_TYPES);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         //20110204 - 701.11c - event.getAmount() is used to signal if regeneration is allowed
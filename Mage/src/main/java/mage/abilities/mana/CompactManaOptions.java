@@ -0,0 +1,415 @@
+package mage.abilities.mana;
+
+import mage.Mana;
+import mage.abilities.Abilities;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.ManaEvent;
+import mage.game.events.TappedForManaEvent;
+import mage.players.Player;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fast calculation of available mana from sources without mana costs (lands, mana rocks, dorks).
+ * <p>
+ * Same result as {@link ManaOptions#addMana(List, Game)} calls for each source and
+ * {@link ManaOptions#removeFullyIncludedVariations()} at the end, but:
+ * <p>
+ * - each mana variation is packed to a single long (8 bits per mana type);
+ * <p>
+ * - fully included variations are removed after each added source instead of the end, so
+ * the amount of variations can't explode with many multi-color sources;
+ * <p>
+ * - combination results are cached by sources production (not by ids), so the same set of
+ * untapped sources gives the result without any calculation (e.g. on each priority check).
+ * <p>
+ * Unsupported use cases (conditional mana, triggered mana, mana replacement, too big
+ * amounts) return null, so caller must use the default calculation instead.
+ */
+public final class CompactManaOptions {
+
+    private static final int BITS = 8;
+    private static final int MAX_AMOUNT = (1 << BITS) - 1;
+    private static final int WHITE = 0;
+    private static final int BLUE = 1;
+    private static final int BLACK = 2;
+    private static final int RED = 3;
+    private static final int GREEN = 4;
+    private static final int GENERIC = 5;
+    private static final int COLORLESS = 6;
+    private static final int ANY = 7;
+    private static final long[] EMPTY_OPTIONS = new long[0];
+    private static final long[] NO_MANA = new long[]{0L}; // source without mana keeps current options
+
+    private static final int MAX_CACHE_SIZE = 10000;
+    private static final Map<CacheKey, long[]> combinationsCache = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = true;
+
+    private CompactManaOptions() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * For tests and comparison only: disable to use the default calculation
+     */
+    public static void setEnabled(boolean enabled) {
+        CompactManaOptions.enabled = enabled;
+    }
+
+    /**
+     * Calculates mana variations from pool mana and sources without mana costs
+     *
+     * @param poolMana normal mana from the mana pool (conditional mana is not supported)
+     * @param sources  sources without mana costs, each entry is an abilities list of one source
+     * @return all mana variations or null if it can't be calculated here
+     */
+    public static ManaOptions calculate(Mana poolMana, List<Abilities<ActivatedManaAbilityImpl>> sources, Game game) {
+        Long base = pack(poolMana);
+        if (base == null) {
+            return null;
+        }
+
+        // collect possible mana from each source (must fire the same events as the default calculation)
+        List<long[]> sourcesMana = new ArrayList<>(sources.size());
+        int[] maxAmounts = unpack(base);
+        for (Abilities<ActivatedManaAbilityImpl> abilities : sources) {
+            long[] sourceMana = getSourceMana(abilities, game);
+            if (sourceMana == null) {
+                return null;
+            }
+            int[] sourceMax = new int[ANY + 1];
+            for (long mana : sourceMana) {
+                int[] amounts = unpack(mana);
+                for (int i = 0; i <= ANY; i++) {
+                    sourceMax[i] = Math.max(sourceMax[i], amounts[i]);
+                }
+            }
+            for (int i = 0; i <= ANY; i++) {
+                maxAmounts[i] += sourceMax[i];
+                if (maxAmounts[i] > MAX_AMOUNT) {
+                    // packed sum can overflow
+                    return null;
+                }
+            }
+            sourcesMana.add(sourceMana);
+        }
+
+        CacheKey key = new CacheKey(base, sourcesMana);
+        long[] options = combinationsCache.get(key);
+        if (options == null) {
+            options = combine(base, sourcesMana);
+            if (combinationsCache.size() >= MAX_CACHE_SIZE) {
+                combinationsCache.clear();
+            }
+            combinationsCache.put(key, options);
+        }
+
+        ManaOptions res = new ManaOptions();
+        for (long mana : options) {
+            res.add(toMana(mana));
+        }
+        return res;
+    }
+
+    /**
+     * Possible mana from one source, same logic as {@link ManaOptions#addMana(List, Game)}
+     *
+     * @return null on unsupported mana
+     */
+    private static long[] getSourceMana(Abilities<ActivatedManaAbilityImpl> abilities, Game game) {
+        if (abilities.isEmpty()) {
+            return NO_MANA;
+        }
+        List<Long> res = new ArrayList<>();
+        if (abilities.size() == 1) {
+            ActivatedManaAbilityImpl ability = abilities.get(0);
+            List<Mana> netManas = ability.getNetMana(game);
+            if (netManas.isEmpty()) {
+                return NO_MANA;
+            }
+            for (Mana netMana : netManas) {
+                // single mana added in any case, variations check replacement for tap abilities only
+                Boolean canProduce = true;
+                if (netManas.size() == 1 || ability.hasTapCost()) {
+                    canProduce = checkManaEvents(ability, game, netMana);
+                }
+                if (canProduce == null) {
+                    return null;
+                }
+                if (netManas.size() == 1 || canProduce) {
+                    Long mana = pack(netMana);
+                    if (mana == null) {
+                        return null;
+                    }
+                    res.add(mana);
+                }
+            }
+        } else {
+            for (ActivatedManaAbilityImpl ability : abilities) {
+                for (Mana netMana : ability.getNetMana(game)) {
+                    if (checkManaEvents(ability, game, netMana) == null) {
+                        return null;
+                    }
+                    Long mana = pack(netMana);
+                    if (mana == null) {
+                        return null;
+                    }
+                    res.add(mana);
+                }
+            }
+        }
+        long[] sourceMana = new long[res.size()];
+        for (int i = 0; i < res.size(); i++) {
+            sourceMana[i] = res.get(i);
+        }
+        return sourceMana;
+    }
+
+    /**
+     * Fires mana events like the default calculation
+     *
+     * @return false if mana production was completely replaced, null if it produces additional triggered mana
+     */
+    private static Boolean checkManaEvents(ActivatedManaAbilityImpl ability, Game game, Mana mana) {
+        boolean res = true;
+        if (ability.hasTapCost()) {
+            ManaEvent event = new TappedForManaEvent(ability.getSourceId(), ability, ability.getControllerId(), mana, game);
+            if (game.replaceEvent(event)) {
+                res = false;
+            } else {
+                game.fireEvent(event);
+            }
+        }
+        if (res) {
+            ManaEvent manaEvent = new ManaEvent(GameEvent.EventType.MANA_ADDED, ability.getSourceId(), ability, ability.getControllerId(), mana);
+            manaEvent.setData(mana.toString());
+            game.fireEvent(manaEvent);
+        }
+        Player player = game.getPlayer(ability.getControllerId());
+        if (player != null && !player.getAvailableTriggeredMana().isEmpty()) {
+            return null;
+        }
+        return res;
+    }
+
+    private static long[] combine(long base, List<long[]> sourcesMana) {
+        long[] options = new long[]{base};
+        for (long[] sourceMana : sourcesMana) {
+            if (options.length == 0) {
+                // same as default: empty options restarts from zero mana
+                options = new long[]{0L};
+            }
+            LinkedHashSet<Long> variations = new LinkedHashSet<>(options.length * sourceMana.length * 2);
+            for (long add : sourceMana) {
+                for (long mana : options) {
+                    variations.add(mana + add); // no overflow, it's checked before
+                }
+            }
+            options = removeFullyIncluded(variations);
+        }
+        // same as final cleanup: empty mana is not an option
+        int emptyCount = 0;
+        for (long mana : options) {
+            if (mana == 0L) {
+                emptyCount++;
+            }
+        }
+        if (emptyCount > 0) {
+            long[] res = new long[options.length - emptyCount];
+            int i = 0;
+            for (long mana : options) {
+                if (mana != 0L) {
+                    res[i++] = mana;
+                }
+            }
+            options = res;
+        }
+        return options.length == 0 ? EMPTY_OPTIONS : options;
+    }
+
+    private static long[] removeFullyIncluded(Collection<Long> variations) {
+        List<Long> res = new ArrayList<>(variations.size());
+        for (long mana : variations) {
+            boolean included = false;
+            for (int i = 0; i < res.size(); i++) {
+                long other = res.get(i);
+                long moreValuable = getMoreValuableMana(mana, other);
+                if (moreValuable == other) {
+                    included = true;
+                    break;
+                } else if (moreValuable == mana) {
+                    // replace the first included and remove all others
+                    res.set(i, mana);
+                    for (int j = res.size() - 1; j > i; j--) {
+                        if (getMoreValuableMana(mana, res.get(j)) == mana) {
+                            res.remove(j);
+                        }
+                    }
+                    included = true;
+                    break;
+                }
+            }
+            if (!included) {
+                res.add(mana);
+            }
+        }
+        long[] options = new long[res.size()];
+        for (int i = 0; i < res.size(); i++) {
+            options[i] = res.get(i);
+        }
+        return options;
+    }
+
+    /**
+     * Same as {@link Mana#getMoreValuableMana(Mana, Mana)}
+     *
+     * @return more valuable mana or -1 if it can't be compared
+     */
+    private static long getMoreValuableMana(long packed1, long packed2) {
+        if (packed1 == packed2) {
+            return -1;
+        }
+        int[] mana1 = unpack(packed1);
+        int[] mana2 = unpack(packed2);
+        int colored1 = countColored(mana1);
+        int colored2 = countColored(mana2);
+        int[] more;
+        int[] less;
+        long moreValuable;
+        if (mana2[ANY] > mana1[ANY]
+                || mana2[COLORLESS] > mana1[COLORLESS]
+                || colored2 > colored1
+                || (colored2 == colored1
+                && mana2[COLORLESS] == mana1[COLORLESS]
+                && colored2 + mana2[GENERIC] + mana2[COLORLESS] > colored1 + mana1[GENERIC] + mana1[COLORLESS])) {
+            more = mana2;
+            less = mana1;
+            moreValuable = packed2;
+        } else {
+            more = mana1;
+            less = mana2;
+            moreValuable = packed1;
+        }
+        if (less[ANY] > more[ANY] || less[COLORLESS] > more[COLORLESS]) {
+            return -1;
+        }
+        int anyDiff = more[ANY] - less[ANY];
+        for (int color : new int[]{WHITE, RED, GREEN, BLUE, BLACK}) {
+            int diff = less[color] - more[color];
+            if (diff > 0) {
+                anyDiff -= diff;
+                if (anyDiff < 0) {
+                    return -1;
+                }
+            }
+        }
+        return moreValuable;
+    }
+
+    private static int countColored(int[] mana) {
+        return mana[WHITE] + mana[BLUE] + mana[BLACK] + mana[RED] + mana[GREEN] + mana[ANY];
+    }
+
+    /**
+     * @return null for unsupported mana (conditional, flagged or too big)
+     */
+    private static Long pack(Mana mana) {
+        if (mana.getClass() != Mana.class || mana.getFlag()) {
+            return null;
+        }
+        int[] amounts = new int[ANY + 1];
+        amounts[WHITE] = mana.getWhite();
+        amounts[BLUE] = mana.getBlue();
+        amounts[BLACK] = mana.getBlack();
+        amounts[RED] = mana.getRed();
+        amounts[GREEN] = mana.getGreen();
+        amounts[GENERIC] = mana.getGeneric();
+        amounts[COLORLESS] = mana.getColorless();
+        amounts[ANY] = mana.getAny();
+        long res = 0;
+        for (int i = 0; i <= ANY; i++) {
+            if (amounts[i] < 0 || amounts[i] > MAX_AMOUNT) {
+                return null;
+            }
+            res |= ((long) amounts[i]) << (i * BITS);
+        }
+        return res;
+    }
+
+    private static int[] unpack(long mana) {
+        int[] res = new int[ANY + 1];
+        for (int i = 0; i <= ANY; i++) {
+            res[i] = (int) ((mana >>> (i * BITS)) & MAX_AMOUNT);
+        }
+        return res;
+    }
+
+    private static Mana toMana(long packed) {
+        int[] mana = unpack(packed);
+        return new Mana(mana[WHITE], mana[BLUE], mana[BLACK], mana[RED], mana[GREEN], mana[GENERIC], mana[ANY], mana[COLORLESS]);
+    }
+
+    /**
+     * Sources production without ids: combination result doesn't depend on sources order
+     */
+    private static final class CacheKey {
+
+        private final long[] data;
+        private final int hash;
+
+        private CacheKey(long base, List<long[]> sourcesMana) {
+            List<long[]> sorted = new ArrayList<>(sourcesMana.size());
+            for (long[] sourceMana : sourcesMana) {
+                long[] copy = sourceMana.clone();
+                Arrays.sort(copy);
+                sorted.add(copy);
+            }
+            sorted.sort(CacheKey::compareSourceMana);
+            int size = 1;
+            for (long[] sourceMana : sorted) {
+                size += sourceMana.length + 1;
+            }
+            this.data = new long[size];
+            int pos = 0;
+            this.data[pos++] = base;
+            for (long[] sourceMana : sorted) {
+                this.data[pos++] = sourceMana.length;
+                System.arraycopy(sourceMana, 0, this.data, pos, sourceMana.length);
+                pos += sourceMana.length;
+            }
+            this.hash = Arrays.hashCode(this.data);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            return hash == ((CacheKey) o).hash && Arrays.equals(data, ((CacheKey) o).data);
+        }
+
+        /**
+         * Lexicographic order (Arrays.compare is Java 9+)
+         */
+        private static int compareSourceMana(long[] a, long[] b) {
+            int size = Math.min(a.length, b.length);
+            for (int i = 0; i < size; i++) {
+                int res = Long.compare(a[i], b[i]);
+                if (res != 0) {
+                    return res;
+                }
+            }
+            return Integer.compare(a.length, b.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
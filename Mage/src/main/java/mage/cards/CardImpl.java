@@ -25,6 +25,7 @@ import mage.game.stack.StackObject;
 import mage.util.CardUtil;
 import mage.util.GameLog;
 import mage.util.ManaUtil;
+import mage.util.RandomUtil;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
 
@@ -150,7 +151,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public void assignNewId() {
-        this.objectId = UUID.randomUUID();
+        this.objectId = RandomUtil.randomUUID();
         this.abilities.newOriginalId();
         this.abilities.setSourceId(objectId);
         if (this.spellAbility != null) {
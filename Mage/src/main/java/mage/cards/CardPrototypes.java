@@ -0,0 +1,199 @@
+package mage.cards;
+
+import mage.MageObject;
+import mage.abilities.Ability;
+import mage.abilities.MageSingleton;
+import mage.abilities.Mode;
+import mage.cards.repository.CardInfo;
+import mage.util.CardUtil;
+import mage.util.RandomUtil;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of fully constructed cards (prototypes) to create game cards without reflection and
+ * abilities construction, new cards are copies of the prototype with new ids.
+ * <p>
+ * Useful for mass games (AI simulations, data generators), can be enabled for the server
+ * by java param like -Dxmage.cards.prototypes
+ * <p>
+ * Some cards keep own ids in constructor's objects (e.g. CavernOfSouls creates a watcher with
+ * the mana ability's original id), copies can't replace such ids, so these cards are always
+ * created by constructor, see canCopyWithNewIds.
+ */
+public final class CardPrototypes {
+
+    private static final String ENABLE_PROTOTYPES_PROPERTY = "xmage.cards.prototypes";
+
+    private static volatile boolean enabled = System.getProperty(ENABLE_PROTOTYPES_PROPERTY) != null;
+
+    // class + set + card number -> prototype (empty for cards without copy support), prototypes are never shared with games
+    private static final Map<String, Optional<Card>> prototypes = new ConcurrentHashMap<>();
+
+    private static final LongAdder createdCards = new LongAdder();
+    private static final LongAdder copiedCards = new LongAdder();
+    private static final LongAdder constructedCards = new LongAdder();
+
+    private CardPrototypes() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        CardPrototypes.enabled = enabled;
+    }
+
+    /**
+     * Create new card for a game (same as cardInfo.createCard)
+     *
+     * @return null on unknown card
+     */
+    public static Card createCard(CardInfo cardInfo) {
+        if (!enabled) {
+            return cardInfo.createCard();
+        }
+
+        String key = cardInfo.getClassName() + '|' + cardInfo.getSetCode() + '|' + cardInfo.getCardNumber();
+        Card prototype = prototypes.computeIfAbsent(key, k -> {
+            createdCards.increment();
+            // shared between games, so must not use ids of the current game in deterministic mode
+            return RandomUtil.callWithRandomIds(() -> {
+                Card card = cardInfo.createCard();
+                return card != null && canCopyWithNewIds(card) ? Optional.of(card) : Optional.empty();
+            });
+        }).orElse(null);
+        if (prototype == null) {
+            constructedCards.increment();
+            return cardInfo.createCard();
+        }
+
+        Card card;
+        synchronized (prototype) {
+            // card's copy can init lazy fields in the source object, so copy one by one
+            card = prototype.copy();
+        }
+        assignNewIds(card);
+        copiedCards.increment();
+        return card;
+    }
+
+    /**
+     * Copy of the card must be a new object with own ids (card, card parts, abilities and effects)
+     */
+    private static void assignNewIds(Card card) {
+        card.assignNewId();
+        for (MageObject part : CardUtil.getObjectPartsAsObjects(card)) {
+            for (Ability ability : part.getAbilities()) {
+                for (Mode mode : ability.getModes().values()) {
+                    mode.getEffects().newId();
+                }
+                assignNewSubAbilityIds(ability);
+            }
+        }
+    }
+
+    private static void assignNewSubAbilityIds(Ability ability) {
+        // card's abilities got new original ids, so sub-abilities can't keep the prototype's ones too
+        for (Ability subAbility : ability.getSubAbilities()) {
+            subAbility.newOriginalId();
+            assignNewSubAbilityIds(subAbility);
+        }
+    }
+
+    /**
+     * Copy must not keep the prototype's ids after assignNewIds. Constructor's objects can hold own ids
+     * (e.g. watcher or effect with ability's original id), copy can't replace it, so such cards
+     * must be created by constructor.
+     */
+    static boolean canCopyWithNewIds(Card prototype) {
+        Card copy = prototype.copy();
+        Set<UUID> prototypeIds = new HashSet<>();
+        for (MageObject part : CardUtil.getObjectPartsAsObjects(copy)) {
+            prototypeIds.add(part.getId());
+            for (Ability ability : part.getAbilities()) {
+                collectAbilityIds(ability, prototypeIds);
+            }
+        }
+        assignNewIds(copy);
+
+        Set<UUID> copyIds = new HashSet<>();
+        try (ObjectOutputStream out = new IdsCollectorOutputStream(copyIds)) {
+            out.writeObject(copy);
+        } catch (IOException | RuntimeException e) {
+            // unknown card's data, so can't check it
+            return false;
+        }
+        return Collections.disjoint(prototypeIds, copyIds);
+    }
+
+    private static void collectAbilityIds(Ability ability, Set<UUID> ids) {
+        // singletons are shared by all cards, so keep same ids
+        if (ability instanceof MageSingleton) {
+            return;
+        }
+        ids.add(ability.getId());
+        ids.add(ability.getOriginalId());
+        for (Mode mode : ability.getModes().values()) {
+            mode.getEffects().stream()
+                    .filter(effect -> !(effect instanceof MageSingleton))
+                    .forEach(effect -> ids.add(effect.getId()));
+        }
+        for (Ability subAbility : ability.getSubAbilities()) {
+            collectAbilityIds(subAbility, ids);
+        }
+    }
+
+    /**
+     * Finds all ids in the object's fields (data goes nowhere)
+     */
+    private static final class IdsCollectorOutputStream extends ObjectOutputStream {
+
+        private final Set<UUID> ids;
+
+        private IdsCollectorOutputStream(Set<UUID> ids) throws IOException {
+            super(new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                }
+            });
+            this.ids = ids;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            if (obj instanceof MageSingleton) {
+                // shared by all cards, so can keep any card's ids (e.g. flying's source id)
+                return null;
+            }
+            if (obj instanceof UUID) {
+                ids.add((UUID) obj);
+            }
+            return obj;
+        }
+    }
+
+    public static void clear() {
+        prototypes.clear();
+    }
+
+    public static int getPrototypesCount() {
+        return (int) prototypes.values().stream().filter(Optional::isPresent).count();
+    }
+
+    public static String getStatistics() {
+        return String.format("card prototypes: %d, created %d, copied %d, created by constructor %d",
+                getPrototypesCount(), createdCards.sum(), copiedCards.sum(), constructedCards.sum());
+    }
+}
@@ -8,7 +8,6 @@ import mage.constants.CardType;
 import mage.constants.ColoredManaSymbol;
 import mage.constants.Rarity;
 import mage.filter.FilterMana;
-import mage.util.ClassScanner;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
@@ -29,9 +28,7 @@ public class Sets extends HashMap<String, ExpansionSet> {
     private final Set<String> customSets = new HashSet<>();
 
     private Sets() {
-        List<String> packages = new ArrayList<>();
-        packages.add("mage.sets");
-        for (Class c : ClassScanner.findClasses(null, packages, ExpansionSet.class)) {
+        for (Class c : SetsIndex.findSetClasses()) {
             try {
                 addSet((ExpansionSet) c.getMethod("getInstance").invoke(null));
             } catch (Exception ex) {
@@ -0,0 +1,116 @@
+package mage.cards;
+
+import mage.util.ClassScanner;
+import org.apache.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Build time index of all sets classes, so server and client can load sets without full jar scanning
+ * (Mage.Sets jar contains 30k+ card classes).
+ * <p>
+ * Index generates by maven on Mage.Sets build (process-classes phase), see Mage.Sets/pom.xml
+ * <p>
+ * Index uses for jar files only, sets from classes folder are always scanned (IDE builds
+ * don't generate the index, so it can be outdated)
+ */
+public final class SetsIndex {
+
+    private static final Logger logger = Logger.getLogger(SetsIndex.class);
+
+    public static final String INDEX_RESOURCE = "META-INF/xmage/sets.idx";
+
+    // disable sets index usage, add java param like -Dxmage.sets.noindex
+    private static final String NO_INDEX_PROPERTY = "xmage.sets.noindex";
+
+    private static final String SETS_PACKAGE = "mage.sets";
+
+    private SetsIndex() {
+    }
+
+    /**
+     * Find all sets classes (by index or by classpath scanning)
+     */
+    public static List<Class> findSetClasses() {
+        List<Class> res = loadIndex(Thread.currentThread().getContextClassLoader());
+        if (res != null) {
+            return res;
+        }
+        return ClassScanner.findClasses(null, Collections.singletonList(SETS_PACKAGE), ExpansionSet.class);
+    }
+
+    /**
+     * @return null on missing or unusable index
+     */
+    private static List<Class> loadIndex(ClassLoader classLoader) {
+        if (System.getProperty(NO_INDEX_PROPERTY) != null || classLoader == null) {
+            return null;
+        }
+        URL url = classLoader.getResource(INDEX_RESOURCE);
+        if (url == null || !"jar".equals(url.getProtocol())) {
+            return null;
+        }
+
+        List<Class> res = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                Class<?> clazz = Class.forName(line, true, classLoader);
+                if (!ExpansionSet.class.isAssignableFrom(clazz)) {
+                    logger.warn("Sets index: wrong set class " + line + ", will use classpath scanning");
+                    return null;
+                }
+                res.add(clazz);
+            }
+        } catch (IOException | ClassNotFoundException | LinkageError e) {
+            logger.warn("Sets index: can't load, will use classpath scanning: " + e, e);
+            return null;
+        }
+        return res.isEmpty() ? null : res;
+    }
+
+    /**
+     * Generate index file for compiled sets
+     *
+     * @param args output folder for compiled classes
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: SetsIndex <classes output folder>");
+        }
+
+        List<String> setClasses = ClassScanner.findClasses(null, Collections.singletonList(SETS_PACKAGE), ExpansionSet.class)
+                .stream()
+                .map(Class::getName)
+                .sorted()
+                .collect(Collectors.toList());
+        if (setClasses.isEmpty()) {
+            throw new IllegalStateException("Sets index: can't find any set in " + SETS_PACKAGE);
+        }
+
+        File file = new File(args[0], INDEX_RESOURCE);
+        Files.createDirectories(file.getParentFile().toPath());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("# generated on build by " + SetsIndex.class.getName() + ", do not edit");
+            for (String setClass : setClasses) {
+                writer.println(setClass);
+            }
+        }
+        System.out.println("Sets index: saved " + setClasses.size() + " sets to " + file.getPath());
+    }
+}
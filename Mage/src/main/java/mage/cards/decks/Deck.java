@@ -2,6 +2,7 @@ package mage.cards.decks;
 
 import mage.MageObject;
 import mage.cards.Card;
+import mage.cards.CardPrototypes;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardRepository;
 import mage.game.GameException;
@@ -162,7 +163,7 @@ public class Deck implements Serializable, Copyable<Deck> {
         if (mockCards) {
             return cardInfo.createMockCard();
         } else {
-            return cardInfo.createCard();
+            return CardPrototypes.createCard(cardInfo);
         }
     }
 
@@ -210,10 +211,11 @@ public class Deck implements Serializable, Copyable<Deck> {
 
     // TODO: delete and replace by getCards()
     public Set<Card> getMaindeckCards() {
+        // keep deck order, so library order doesn't depend on objects hash (deterministic games)
         return cards
                 .stream()
                 .filter(card -> !card.isExtraDeckCard())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     public Card findCard(UUID cardId) {
@@ -0,0 +1,215 @@
+package mage.cards.repository;
+
+import mage.constants.CardType;
+import mage.constants.SuperType;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Immutable in-memory copy of the cards db with indexes for popular searches (by name, set/number,
+ * class name, card type). Built one time from the db and replaced as a whole on db changes,
+ * so readers don't need any locks.
+ * <p>
+ * Text searches work like db's searches (ignore case mode), see CardRepository and CardCriteria.
+ */
+final class CardCatalog {
+
+    private final List<CardInfo> cards;
+    private final Map<String, List<CardInfo>> byName = new HashMap<>();
+    private final Map<String, List<CardInfo>> byOtherSideName = new HashMap<>();
+    private final Map<String, List<CardInfo>> bySetAndNumber = new HashMap<>();
+    private final Map<String, List<CardInfo>> bySet = new HashMap<>();
+    private final Map<String, List<CardInfo>> byClassName = new HashMap<>();
+    private final Map<CardType, List<CardInfo>> byType = new EnumMap<>(CardType.class);
+
+    // names lists (it's static data and can be calculated one time only)
+    private final Set<String> names;
+    private final Set<String> nonLandNames;
+    private final Set<String> nonbasicLandNames;
+    private final Set<String> notBasicLandNames;
+    private final Set<String> creatureNames;
+    private final Set<String> artifactNames;
+    private final Set<String> nonLandAndNonCreatureNames;
+    private final Set<String> nonArtifactAndNonLandNames;
+
+    CardCatalog(List<CardInfo> dbCards) {
+        // same rules and types texts are used by all reprints, so keep one copy of it
+        Map<String, String> texts = new HashMap<>();
+        for (CardInfo card : dbCards) {
+            card.rules = dedup(texts, card.rules);
+            card.types = dedup(texts, card.types);
+            card.subtypes = dedup(texts, card.subtypes);
+            card.supertypes = dedup(texts, card.supertypes);
+            card.manaCosts = dedup(texts, card.manaCosts);
+        }
+        this.cards = Collections.unmodifiableList(new ArrayList<>(dbCards));
+
+        for (CardInfo card : this.cards) {
+            addTo(byName, key(card.name), card);
+            Set<String> otherSideNames = new HashSet<>();
+            for (String otherName : Arrays.asList(card.flipCardName, card.secondSideName,
+                    card.spellOptionCardName, card.modalDoubleFacedSecondSideName)) {
+                if (otherName != null && otherSideNames.add(key(otherName))) {
+                    addTo(byOtherSideName, key(otherName), card);
+                }
+            }
+            addTo(bySetAndNumber, setAndNumberKey(card.setCode, card.cardNumber), card);
+            addTo(bySet, key(card.setCode), card);
+            addTo(byClassName, card.className, card);
+            for (CardType type : CardType.values()) {
+                if (like(card.types, type.name())) {
+                    byType.computeIfAbsent(type, k -> new ArrayList<>()).add(card);
+                }
+            }
+        }
+
+        this.names = collectNames(card -> true);
+        this.nonLandNames = collectNames(card -> notLike(card.types, CardType.LAND.name()));
+        this.nonbasicLandNames = collectNames(card -> notLike(card.supertypes, SuperType.BASIC.name())
+                && like(card.types, CardType.LAND.name()));
+        this.notBasicLandNames = collectNames(card -> notLike(card.supertypes, SuperType.BASIC.name()));
+        this.creatureNames = collectNames(card -> like(card.types, CardType.CREATURE.name()));
+        this.artifactNames = collectNames(card -> like(card.types, CardType.ARTIFACT.name()));
+        this.nonLandAndNonCreatureNames = collectNames(card -> notLike(card.types, CardType.CREATURE.name())
+                && notLike(card.types, CardType.LAND.name()));
+        this.nonArtifactAndNonLandNames = collectNames(card -> notLike(card.types, CardType.ARTIFACT.name())
+                && notLike(card.types, CardType.LAND.name()));
+    }
+
+    private static String dedup(Map<String, String> texts, String text) {
+        return text == null ? null : texts.computeIfAbsent(text, s -> s);
+    }
+
+    private static void addTo(Map<String, List<CardInfo>> index, String key, CardInfo card) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new ArrayList<>()).add(card);
+        }
+    }
+
+    private static String key(String text) {
+        return text == null ? null : text.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String setAndNumberKey(String setCode, String cardNumber) {
+        return key(setCode) + '|' + key(cardNumber);
+    }
+
+    /**
+     * Same as db's LIKE '%text%' in ignore case mode (null value is never found)
+     */
+    static boolean like(String value, String text) {
+        return value != null && value.toLowerCase(Locale.ENGLISH).contains(text.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Same as db's NOT LIKE '%text%' in ignore case mode (null value is never found)
+     */
+    static boolean notLike(String value, String text) {
+        return value != null && !like(value, text);
+    }
+
+    private Set<String> collectNames(Predicate<CardInfo> filter) {
+        Set<String> res = new TreeSet<>();
+        for (CardInfo card : cards) {
+            if (filter.test(card)) {
+                CardRepository.addNewNames(card, res);
+            }
+        }
+        return res;
+    }
+
+    private static List<CardInfo> limit(List<CardInfo> list, long limitByMaxAmount) {
+        if (limitByMaxAmount > 0 && list.size() > limitByMaxAmount) {
+            return new ArrayList<>(list.subList(0, (int) limitByMaxAmount));
+        }
+        return new ArrayList<>(list);
+    }
+
+    List<CardInfo> getAll() {
+        return cards;
+    }
+
+    List<CardInfo> findCardsByName(String name, long limitByMaxAmount) {
+        return limit(byName.getOrDefault(key(name), Collections.emptyList()), limitByMaxAmount);
+    }
+
+    List<CardInfo> findCardsByOtherSideName(String name, long limitByMaxAmount) {
+        return limit(byOtherSideName.getOrDefault(key(name), Collections.emptyList()), limitByMaxAmount);
+    }
+
+    List<CardInfo> findCardsBySetAndNumber(String setCode, String cardNumber) {
+        return bySetAndNumber.getOrDefault(setAndNumberKey(setCode, cardNumber), Collections.emptyList());
+    }
+
+    List<CardInfo> findCardsByClass(String className) {
+        return new ArrayList<>(byClassName.getOrDefault(className, Collections.emptyList()));
+    }
+
+    /**
+     * Criteria search, see CardCriteria.buildQuery for db version
+     */
+    List<CardInfo> findCards(CardCriteria criteria) {
+        criteria.optimize();
+
+        // use smallest index for candidates (result must keep db's order)
+        List<CardInfo> candidates = cards;
+        if (criteria.getSetCodes().size() == 1) {
+            candidates = bySet.getOrDefault(key(criteria.getSetCodes().get(0)), Collections.emptyList());
+        } else if (criteria.getName() != null) {
+            candidates = byName.getOrDefault(key(criteria.getName()), Collections.emptyList());
+        } else if (criteria.getTypes().size() == 1) {
+            candidates = byType.getOrDefault(criteria.getTypes().get(0), Collections.emptyList());
+        }
+
+        List<CardInfo> res = new ArrayList<>();
+        long skip = criteria.getStart() == null ? 0 : criteria.getStart();
+        long count = criteria.getCount() == null ? Long.MAX_VALUE : criteria.getCount();
+        for (CardInfo card : candidates) {
+            if (res.size() >= count) {
+                break;
+            }
+            if (!criteria.matches(card)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            res.add(card);
+        }
+        return res;
+    }
+
+    Set<String> getNames() {
+        return names;
+    }
+
+    Set<String> getNonLandNames() {
+        return nonLandNames;
+    }
+
+    Set<String> getNonbasicLandNames() {
+        return nonbasicLandNames;
+    }
+
+    Set<String> getNotBasicLandNames() {
+        return notBasicLandNames;
+    }
+
+    Set<String> getCreatureNames() {
+        return creatureNames;
+    }
+
+    Set<String> getArtifactNames() {
+        return artifactNames;
+    }
+
+    Set<String> getNonLandAndNonCreatureNames() {
+        return nonLandAndNonCreatureNames;
+    }
+
+    Set<String> getNonArtifactAndNonLandNames() {
+        return nonArtifactAndNonLandNames;
+    }
+}
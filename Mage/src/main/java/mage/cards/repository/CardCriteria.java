@@ -370,7 +370,83 @@ public class CardCriteria {
         }
     }
 
-    private CardCriteria optimize() {
+    /**
+     * In-memory version of buildQuery, must be same (call optimize before)
+     */
+    boolean matches(CardInfo card) {
+        if (nightCard != null && card.nightCard != nightCard) {
+            return false;
+        }
+        if (card.splitCardHalf) {
+            return false;
+        }
+        if (nameContains != null && !CardCatalog.like(card.name, nameContains)) {
+            return false;
+        }
+        if (name != null && !name.equalsIgnoreCase(card.name)) {
+            return false;
+        }
+        if (rules != null && !CardCatalog.like(card.rules, rules)) {
+            return false;
+        }
+
+        if (variousArt != null && card.variousArt != variousArt) {
+            return false;
+        }
+        if (doubleFaced != null && card.doubleFaced != doubleFaced) {
+            return false;
+        }
+        if (modalDoubleFaced != null && card.modalDoubleFacedCard != modalDoubleFaced) {
+            return false;
+        }
+
+        if (!rarities.isEmpty() && !rarities.contains(card.rarity)) {
+            return false;
+        }
+        if (!setCodes.isEmpty() && setCodes.stream().noneMatch(setCode -> setCode.equalsIgnoreCase(card.setCode))) {
+            return false;
+        }
+        if (ignoreSetCodes.stream().anyMatch(setCode -> setCode.equalsIgnoreCase(card.setCode))) {
+            return false;
+        }
+
+        if (types.size() != 7 && !types.isEmpty()
+                && types.stream().noneMatch(type -> CardCatalog.like(card.types, type.name()))) {
+            return false;
+        }
+        if (notTypes.stream().anyMatch(type -> !CardCatalog.notLike(card.types, type.name()))) {
+            return false;
+        }
+        if (supertypes.stream().anyMatch(superType -> !CardCatalog.like(card.supertypes, superType.name()))) {
+            return false;
+        }
+        if (notSupertypes.stream().anyMatch(superType -> !CardCatalog.notLike(card.supertypes, superType.name()))) {
+            return false;
+        }
+        if (subtypes.stream().anyMatch(subType -> !CardCatalog.like(card.subtypes, subType.toString()))) {
+            return false;
+        }
+
+        if (manaValue != null && card.manaValue != manaValue) {
+            return false;
+        }
+
+        if (black || blue || green || red || white || colorless) {
+            boolean isColorless = !card.black && !card.blue && !card.green && !card.red && !card.white;
+            if (!((black && card.black)
+                    || (blue && card.blue)
+                    || (green && card.green)
+                    || (red && card.red)
+                    || (white && card.white)
+                    || (colorless && isColorless))) {
+                return false;
+            }
+        }
+
+        return card.cardNumberAsInt >= minCardNumber && card.cardNumberAsInt <= maxCardNumber;
+    }
+
+    CardCriteria optimize() {
         // remove rarity
         if (rarities.size() > 0) {
             List<Rarity> unusedRarities = new ArrayList<>(Arrays.asList(Rarity.values()));
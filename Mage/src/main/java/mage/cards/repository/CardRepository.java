@@ -6,13 +6,10 @@ import com.j256.ormlite.dao.GenericRawResults;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
-import com.j256.ormlite.stmt.Where;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.support.DatabaseConnection;
 import com.j256.ormlite.table.TableUtils;
-import mage.constants.CardType;
 import mage.constants.SetType;
-import mage.constants.SuperType;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
@@ -43,8 +40,9 @@ public enum CardRepository {
 
     private Dao<CardInfo, Object> cardsDao;
 
-    // store names lists like all cards, lands, etc (it's static data and can be calculated one time only)
-    private static final Map<String, Set<String>> namesQueryCache = new HashMap<>();
+    // in-memory copy of the db for fast searches without locks (rebuilds on db changes)
+    private volatile CardCatalog catalog = null;
+    private final Object catalogLock = new Object();
 
     // sets with exclusively snow basics
     public static final Set<String> snowLandSetCodes = new HashSet<>(Arrays.asList(
@@ -122,10 +120,42 @@ public enum CardRepository {
             setContentVersion(newContentVersion);
         } catch (Exception ex) {
             //
+        } finally {
+            resetCatalog();
         }
     }
 
-    private void addNewNames(CardInfo card, Set<String> namesList) {
+    /**
+     * In-memory catalog of all cards, built from the db on first usage
+     *
+     * @return null on db errors (use db queries instead)
+     */
+    private CardCatalog getCatalog() {
+        CardCatalog current = catalog;
+        if (current != null) {
+            return current;
+        }
+        synchronized (catalogLock) {
+            if (catalog == null) {
+                try {
+                    catalog = new CardCatalog(cardsDao.queryForAll());
+                } catch (SQLException | RuntimeException e) {
+                    // no db fixes here, it will be done by db queries
+                    logger.error("Error loading cards catalog from DB, possible low memory: " + e, e);
+                    return null;
+                }
+            }
+            return catalog;
+        }
+    }
+
+    private void resetCatalog() {
+        synchronized (catalogLock) {
+            catalog = null;
+        }
+    }
+
+    static void addNewNames(CardInfo card, Set<String> namesList) {
         // require before call: qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName"...);
 
         // normal names
@@ -159,175 +189,44 @@ public enum CardRepository {
         return snowLandSetCodes.contains(setCode);
     }
 
-    public synchronized Set<String> getNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNames() {
+        CardCatalog current = getCatalog();
+        return current == null ? new TreeSet<>() : current.getNames();
     }
 
-    public synchronized Set<String> getNonLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().not().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonLandNames() {
+        CardCatalog current = getCatalog();
+        return current == null ? new TreeSet<>() : current.getNonLandNames();
     }
 
-    public synchronized Set<String> getNonbasicLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonbasicLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("supertypes", '%' + SuperType.BASIC.name() + '%'),
-                    where.like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonbasicLandNames() {
+        CardCatalog current = getCatalog();
+        return current == null ? new TreeSet<>() : current.getNonbasicLandNames();
     }
 
-    public synchronized Set<String> getNotBasicLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNotBasicLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().not().like("supertypes", new SelectArg('%' + SuperType.BASIC.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNotBasicLandNames() {
+        CardCatalog current = getCatalog();
+        return current == null ? new TreeSet<>() : current.getNotBasicLandNames();
     }
 
-    public synchronized Set<String> getCreatureNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getCreatureNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.CREATURE.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting creature names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getCreatureNames() {
+        CardCatalog current = getCatalog();
+        return current == null ? new TreeSet<>() : current.getCreatureNames();
     }
 
-    public synchronized Set<String> getArtifactNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getArtifactNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.ARTIFACT.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting artifact names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getArtifactNames() {
+        CardCatalog current = getCatalog();
+        return current == null ? new TreeSet<>() : current.getArtifactNames();
     }
 
-    public synchronized Set<String> getNonLandAndNonCreatureNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonLandAndNonCreatureNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("types", '%' + CardType.CREATURE.name() + '%'),
-                    where.not().like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land and non-creature names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonLandAndNonCreatureNames() {
+        CardCatalog current = getCatalog();
+        return current == null ? new TreeSet<>() : current.getNonLandAndNonCreatureNames();
     }
 
-    public synchronized Set<String> getNonArtifactAndNonLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonArtifactAndNonLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("types", '%' + CardType.ARTIFACT.name() + '%'),
-                    where.not().like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-artifact non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonArtifactAndNonLandNames() {
+        CardCatalog current = getCatalog();
+        return current == null ? new TreeSet<>() : current.getNonArtifactAndNonLandNames();
     }
 
     public CardInfo findCard(String setCode, String cardNumber) {
@@ -335,6 +234,19 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
+        CardCatalog current = getCatalog();
+        if (current != null) {
+            // some double faced cards can use second side card with same number as main side
+            // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
+            List<CardInfo> cards = current.findCardsBySetAndNumber(setCode, cardNumber);
+            for (CardInfo card : cards) {
+                if (!card.isNightCard()) {
+                    return card;
+                }
+            }
+            return ignoreNightCards || cards.isEmpty() ? null : cards.get(0);
+        }
+
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             if (ignoreNightCards) {
@@ -362,8 +274,35 @@ public enum CardRepository {
         return null;
     }
 
+    /**
+     * All cards in db by set code and card number (with night cards), one query instead query per card
+     *
+     * @return set code -> card numbers
+     */
+    public Map<String, Set<String>> getCardNumbersBySet() {
+        Map<String, Set<String>> res = new HashMap<>();
+        try {
+            QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
+            queryBuilder.selectColumns("setCode", "cardNumber");
+            for (CardInfo card : cardsDao.query(queryBuilder.prepare())) {
+                res.computeIfAbsent(card.getSetCode(), k -> new HashSet<>()).add(card.getCardNumber());
+            }
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error getting card numbers from DB, possible low memory: " + e, e);
+            processMemoryErrors(e);
+        }
+        return res;
+    }
+
     public List<String> getClassNames() {
         List<String> names = new ArrayList<>();
+        CardCatalog current = getCatalog();
+        if (current != null) {
+            for (CardInfo card : current.getAll()) {
+                names.add(card.getClassName());
+            }
+            return names;
+        }
         try {
             List<CardInfo> results = cardsDao.queryForAll();
             for (CardInfo card : results) {
@@ -377,6 +316,13 @@ public enum CardRepository {
     }
 
     public List<CardInfo> getMissingCards(List<String> classNames) {
+        CardCatalog current = getCatalog();
+        if (current != null) {
+            Set<String> need = new HashSet<>(classNames);
+            return current.getAll().stream()
+                    .filter(card -> !need.contains(card.getClassName()))
+                    .collect(Collectors.toList());
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             queryBuilder.where().not().in("className", classNames);
@@ -508,6 +454,12 @@ public enum CardRepository {
      * @canCheckDatabaseHealth try to fix database on any errors (use true anytime except fix methods itself)
      */
     public List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
+        // db health checks must use real db
+        CardCatalog current = canCheckDatabaseHealth ? getCatalog() : null;
+        if (current != null) {
+            return findCardsInCatalog(current, name, limitByMaxAmount, returnSplitCardHalf);
+        }
+
         List<CardInfo> results;
         QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
         if (limitByMaxAmount > 0) {
@@ -579,11 +531,51 @@ public enum CardRepository {
         return Collections.emptyList();
     }
 
+    /**
+     * Same as db search in findCards
+     */
+    private static List<CardInfo> findCardsInCatalog(CardCatalog current, String name, long limitByMaxAmount, boolean returnSplitCardHalf) {
+        List<CardInfo> results;
+        if (name.contains(" // ")) {
+            // split card stored under full card name, other cards under first half
+            results = current.findCardsByName(name, limitByMaxAmount);
+            if (results.isEmpty()) {
+                results = current.findCardsByName(name.split(" // ", 2)[0], limitByMaxAmount);
+            }
+            return results;
+        }
+
+        results = current.findCardsByName(name, limitByMaxAmount);
+        if (results.isEmpty()) {
+            return current.findCardsByOtherSideName(name, limitByMaxAmount);
+        }
+
+        // search by split card half must return full split card
+        CardInfo firstCardInfo = results.get(0);
+        if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
+            String fullSplitCardName = current.findCardsBySetAndNumber(firstCardInfo.setCode, firstCardInfo.cardNumber)
+                    .stream()
+                    .filter(CardInfo::isSplitCard)
+                    .map(CardInfo::getName)
+                    .findFirst()
+                    .orElse(null);
+            if (fullSplitCardName == null) {
+                return Collections.emptyList();
+            }
+            results = current.findCardsByName(fullSplitCardName, limitByMaxAmount);
+        }
+        return results;
+    }
+
     public List<CardInfo> findCards(String name, long limitByMaxAmount) {
         return findCards(name, limitByMaxAmount, false, true);
     }
 
     public List<CardInfo> findCardsByClass(String canonicalClassName) {
+        CardCatalog current = getCatalog();
+        if (current != null) {
+            return current.findCardsByClass(canonicalClassName);
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
@@ -605,6 +597,11 @@ public enum CardRepository {
      * @return
      */
     public List<CardInfo> findCards(CardCriteria criteria) {
+        // custom sorting is db only feature
+        CardCatalog current = criteria.getSortBy() == null ? getCatalog() : null;
+        if (current != null) {
+            return current.findCards(criteria);
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
@@ -674,6 +671,7 @@ public enum CardRepository {
     }
 
     public void closeDB(boolean writeCompact) {
+        resetCatalog();
         try {
             if (cardsDao != null && cardsDao.getConnectionSource() != null) {
                 DatabaseConnection conn = cardsDao.getConnectionSource().getReadWriteConnection(cardsDao.getTableName());
@@ -753,6 +751,7 @@ public enum CardRepository {
     public void execSQL(String sql) {
         try {
             cardsDao.executeRaw(sql);
+            resetCatalog();
         } catch (SQLException e) {
             logger.error("Can't exec sql due error: " + sql + " - " + e, e);
         }
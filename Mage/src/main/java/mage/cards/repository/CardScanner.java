@@ -3,10 +3,7 @@ package mage.cards.repository;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * @author North
@@ -31,9 +28,13 @@ public final class CardScanner {
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToUpdate = new ArrayList<>();
 
-        // check sets
+        // check sets (load all db data at once, it's much faster than query per set or card)
+        Map<String, ExpansionInfo> existingSets = new HashMap<>();
+        for (ExpansionInfo expansionInfo : ExpansionRepository.instance.getAll()) {
+            existingSets.put(expansionInfo.getCode(), expansionInfo);
+        }
         for (ExpansionSet set : Sets.getInstance().values()) {
-            ExpansionInfo expansionInfo = ExpansionRepository.instance.getSetByCode(set.getCode());
+            ExpansionInfo expansionInfo = existingSets.get(set.getCode());
             if (expansionInfo == null) {
                 // need add
                 setsToAdd.add(new ExpansionInfo(set));
@@ -51,9 +52,11 @@ public final class CardScanner {
         ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
         // check cards (only add mode, without updates)
+        Map<String, Set<String>> existingCards = CardRepository.instance.getCardNumbersBySet();
         for (ExpansionSet set : Sets.getInstance().values()) {
+            Set<String> existingNumbers = existingCards.getOrDefault(set.getCode(), Collections.emptySet());
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
-                if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
+                if (!existingNumbers.contains(setInfo.getCardNumber())) {
                     // found new card
                     Card card = CardImpl.createCard(
                             setInfo.getCardClass(),
@@ -103,5 +103,9 @@ public enum CardType {
         public String toString() {
             return "CardType(" + cardType.toString() + ')';
         }
+
+        public CardType getCardType() {
+            return cardType;
+        }
     }
 }
@@ -60,6 +60,7 @@ public enum PlayerAction {
     CLIENT_DOWNLOAD_CARD_IMAGES,
     CLIENT_RECONNECT,
     CLIENT_REPLAY_ACTION,
+    CLIENT_REQUEST_FULL_GAME_VIEW, // game view delta updates lost sync
     HOLD_PRIORITY,
     UNHOLD_PRIORITY,
     VIEW_LIMITED_DECK,
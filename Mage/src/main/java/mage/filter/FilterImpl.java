@@ -1,7 +1,7 @@
 package mage.filter;
 
+import mage.filter.predicate.CompiledPredicates;
 import mage.filter.predicate.Predicate;
-import mage.filter.predicate.Predicates;
 import mage.game.Game;
 
 import java.util.ArrayList;
@@ -17,6 +17,7 @@ public abstract class FilterImpl<E> implements Filter<E> {
     protected List<Predicate<? super E>> predicates = new ArrayList<>();
     protected String message;
     protected boolean lockedFilter; // Helps to prevent "accidentally" modifying the StaticFilters objects
+    private transient CompiledPredicates<E> compiledPredicates; // lazy, reset on predicates change
 
     @Override
     public abstract FilterImpl<E> copy();
@@ -35,17 +36,27 @@ public abstract class FilterImpl<E> implements Filter<E> {
     @Override
     public boolean match(E e, Game game) {
         if (checkObjectClass(e)) {
-            return Predicates.and(predicates).apply(e, game);
+            return getCompiledPredicates().apply(e, game);
         }
         return false;
     }
 
+    private CompiledPredicates<E> getCompiledPredicates() {
+        CompiledPredicates<E> compiled = compiledPredicates;
+        if (compiled == null || !compiled.isCompiledFrom(predicates)) {
+            compiled = new CompiledPredicates<>(predicates);
+            compiledPredicates = compiled;
+        }
+        return compiled;
+    }
+
     @Override
     public final Filter<E> add(Predicate<? super E> predicate) {
         if (isLockedFilter()) {
             throw new UnsupportedOperationException("You may not modify a locked filter");
         }
         predicates.add(predicate);
+        compiledPredicates = null;
         return this;
     }
 
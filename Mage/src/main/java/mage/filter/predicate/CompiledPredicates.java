@@ -0,0 +1,150 @@
+package mage.filter.predicate;
+
+import mage.MageObject;
+import mage.constants.CardType;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.mageobject.ColorlessPredicate;
+import mage.filter.predicate.mageobject.MonocoloredPredicate;
+import mage.filter.predicate.mageobject.MulticoloredPredicate;
+import mage.filter.predicate.mageobject.NamePredicate;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.filter.predicate.permanent.TokenPredicate;
+import mage.game.Game;
+import mage.game.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled form of the filter's predicates list (all components must be true):
+ * <p>
+ * 1. cheap field checks (tapped, token, controller) go first;
+ * <p>
+ * 2. characteristic checks (types, colors, name) go next, they can't change between
+ * applyEffects calls, so for 2+ such checks the result is memoized per object
+ * in {@link FilterMatchCache} until the next applyEffects;
+ * <p>
+ * 3. all other predicates go last in the original order.
+ * <p>
+ * Predicates must be side effect free, so the reorder doesn't change the result.
+ */
+public final class CompiledPredicates<T> implements Predicate<T> {
+
+    private static final Predicate[] EMPTY = new Predicate[0];
+
+    private final Predicate<? super T>[] cheap;
+    private final Predicate<? super T>[] stable;
+    private final Predicate<? super T>[] other;
+    private final boolean memoize;
+    private final int sourceSize;
+
+    @SuppressWarnings("unchecked")
+    public CompiledPredicates(List<? extends Predicate<? super T>> predicates) {
+        List<Predicate<? super T>> cheapList = new ArrayList<>();
+        List<Predicate<? super T>> typeList = new ArrayList<>();
+        List<Predicate<? super T>> stableList = new ArrayList<>();
+        List<Predicate<? super T>> otherList = new ArrayList<>();
+        for (Predicate<? super T> predicate : predicates) {
+            if (isCheap(predicate)) {
+                cheapList.add(predicate);
+            } else if (predicate instanceof CardType.CardTypePredicate) {
+                typeList.add(predicate);
+            } else if (isStable(predicate)) {
+                stableList.add(predicate);
+            } else {
+                otherList.add(predicate);
+            }
+        }
+        typeList.addAll(stableList); // types check is the fastest from characteristics
+        this.cheap = cheapList.toArray(EMPTY);
+        this.stable = typeList.toArray(EMPTY);
+        this.other = otherList.toArray(EMPTY);
+        this.memoize = this.stable.length > 1;
+        this.sourceSize = predicates.size();
+    }
+
+    /**
+     * Simple check for outdated compilation (predicates list can only grow)
+     */
+    public boolean isCompiledFrom(List<?> predicates) {
+        return sourceSize == predicates.size();
+    }
+
+    @Override
+    public boolean apply(T input, Game game) {
+        for (Predicate<? super T> predicate : cheap) {
+            if (!predicate.apply(input, game)) {
+                return false;
+            }
+        }
+        if (!applyStable(input, game)) {
+            return false;
+        }
+        for (Predicate<? super T> predicate : other) {
+            if (!predicate.apply(input, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean applyStable(T input, Game game) {
+        if (stable.length == 0) {
+            return true;
+        }
+        FilterMatchCache cache = null;
+        if (memoize && game != null && input instanceof MageObject) {
+            GameState state = game.getState();
+            cache = state == null ? null : state.getFilterMatchCache();
+        }
+        if (cache != null) {
+            MageObject object = (MageObject) input;
+            int zcc = object.getZoneChangeCounter(game);
+            Boolean res = cache.get(this, object.getId(), zcc);
+            if (res != null) {
+                return res;
+            }
+            boolean result = applyAll(stable, input, game);
+            cache.put(this, object.getId(), zcc, result);
+            return result;
+        }
+        return applyAll(stable, input, game);
+    }
+
+    private static <T> boolean applyAll(Predicate<? super T>[] predicates, T input, Game game) {
+        for (Predicate<? super T> predicate : predicates) {
+            if (!predicate.apply(input, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCheap(Predicate<?> predicate) {
+        return predicate instanceof TappedPredicate
+                || predicate instanceof TokenPredicate
+                || predicate instanceof ControllerIdPredicate;
+    }
+
+    /**
+     * Characteristics based predicates, its result can be changed by continuous effects only
+     */
+    private static boolean isStable(Predicate<?> predicate) {
+        return predicate instanceof CardType.CardTypePredicate
+                || predicate instanceof SubType.SubTypePredicate
+                || predicate instanceof SuperType.SuperTypePredicate
+                || predicate instanceof ColorPredicate
+                || predicate instanceof ColorlessPredicate
+                || predicate instanceof MonocoloredPredicate
+                || predicate instanceof MulticoloredPredicate
+                || predicate instanceof NamePredicate;
+    }
+
+    @Override
+    public String toString() {
+        return "Compiled(cheap " + cheap.length + ", stable " + stable.length + ", other " + other.length + ')';
+    }
+}
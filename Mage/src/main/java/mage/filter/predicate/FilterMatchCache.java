@@ -0,0 +1,38 @@
+package mage.filter.predicate;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Game related cache for characteristics based filter checks, see {@link CompiledPredicates}.
+ * <p>
+ * Lives until the next applyEffects call (it can change any characteristics),
+ * objects are keyed by id and zone change counter (new object after each zone change).
+ */
+public class FilterMatchCache {
+
+    private final Map<CompiledPredicates<?>, Map<UUID, Integer>> results = new IdentityHashMap<>();
+
+    public Boolean get(CompiledPredicates<?> predicates, UUID objectId, int zoneChangeCounter) {
+        Map<UUID, Integer> objects = results.get(predicates);
+        if (objects == null) {
+            return null;
+        }
+        Integer res = objects.get(objectId);
+        if (res == null || (res >> 1) != zoneChangeCounter) {
+            return null;
+        }
+        return (res & 1) == 1;
+    }
+
+    public void put(CompiledPredicates<?> predicates, UUID objectId, int zoneChangeCounter, boolean result) {
+        results.computeIfAbsent(predicates, k -> new HashMap<>())
+                .put(objectId, (zoneChangeCounter << 1) | (result ? 1 : 0));
+    }
+
+    public void clear() {
+        results.clear();
+    }
+}
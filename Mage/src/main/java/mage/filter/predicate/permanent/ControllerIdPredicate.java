@@ -34,4 +34,8 @@ public class ControllerIdPredicate implements Predicate<Permanent> {
     public String toString() {
         return "ControllerId(" + controllerId + ')';
     }
+
+    public UUID getControllerId() {
+        return controllerId;
+    }
 }
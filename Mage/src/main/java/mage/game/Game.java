@@ -44,6 +44,7 @@ import mage.util.functions.CopyApplier;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public interface Game extends MageItem, Serializable, Copyable<Game> {
@@ -312,6 +313,11 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
      */
     Game createSimulationForPlayableCalc();
 
+    /**
+     * Playable abilities of the current game state (not copied with the game)
+     */
+    PlayableCache getPlayableCache();
+
     boolean inCheckPlayableState();
 
     MageObject getLastKnownInformation(UUID objectId, Zone zone);
@@ -399,6 +405,14 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
 
     void informPlayers(String message);
 
+    /**
+     * Lazy version of {@link #informPlayers(String)} for often used messages: the message
+     * builds only for real games, simulations (AI) skip it without any string building
+     * <p>
+     * Supplier calls immediately, so it can use the current game state
+     */
+    void informPlayers(Supplier<String> message);
+
     void informPlayer(Player player, String message);
 
     void debugMessage(String message);
@@ -77,6 +77,8 @@ import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -97,6 +99,7 @@ public abstract class GameImpl implements Game {
     public static boolean drawHand = true;
 
     private final static AtomicInteger GLOBAL_INDEX = new AtomicInteger();
+    private static final LongAdder COPIES_COUNT = new LongAdder(); // all game copies (AI simulations, playable calcs, etc)
 
     private static final int ROLLBACK_TURNS_MAX = 4;
     private static final String UNIT_TESTS_ERROR_TEXT = "Error in unit tests";
@@ -104,6 +107,7 @@ public abstract class GameImpl implements Game {
 
     private transient Object customData; // temporary data, used in AI simulations
     private transient Player losingPlayer; // temporary data, used in AI simulations
+    private transient PlayableCache playableCache; // playable abilities of the current state, don't copy
 
     protected boolean simulation = false; // for inner simulations (game without user messages)
     protected boolean mctsSimulation = false; // for mcts simulations
@@ -177,7 +181,7 @@ public abstract class GameImpl implements Game {
     private final LinkedList<UUID> concedingPlayers = new LinkedList<>();
 
     public GameImpl(MultiplayerAttackOption attackOption, RangeOfInfluence range, Mulligan mulligan, int minimumDeckSize, int startingLife, int startingHandSize) {
-        this.id = UUID.randomUUID();
+        this.id = RandomUtil.randomUUID();
         this.gameIndex = GLOBAL_INDEX.incrementAndGet();
         this.range = range;
         this.mulligan = mulligan;
@@ -192,6 +196,7 @@ public abstract class GameImpl implements Game {
     }
 
     protected GameImpl(final GameImpl game) {
+        COPIES_COUNT.increment();
         this.lastPriorityPlayerId = game.lastPriorityPlayerId;
         //this.customData = game.customData; // temporary data, no need on game copy
         //this.losingPlayer = game.losingPlayer; // temporary data, no need on game copy
@@ -345,6 +350,13 @@ public abstract class GameImpl implements Game {
     @Override
     public void setMCTSSimulation(boolean b) {mctsSimulation = b;}
 
+    /**
+     * Total game copies made in the current JVM (for benchmarks and diagnostics)
+     */
+    public static long getCopiesCount() {
+        return COPIES_COUNT.sum();
+    }
+
     @Override
     public Game createSimulationForAI() {
         Game res = this.copy();
@@ -354,6 +366,14 @@ public abstract class GameImpl implements Game {
         return res;
     }
 
+    @Override
+    public PlayableCache getPlayableCache() {
+        if (playableCache == null) {
+            playableCache = new PlayableCache();
+        }
+        return playableCache;
+    }
+
     @Override
     public Game createSimulationForPlayableCalc() {
         Game res;
@@ -1091,6 +1111,10 @@ public abstract class GameImpl implements Game {
     public void setState(Object s) {
         if(s instanceof GameState) {
             state = (GameState) s;
+            // another state can have same change counter (e.g. AI copies of the same parent state)
+            if (playableCache != null) {
+                playableCache.clear();
+            }
         }
     }
 
@@ -1887,6 +1911,8 @@ public abstract class GameImpl implements Game {
                                     return;
                                 }
                                 state.priorityCounter++;
+                                // long games (e.g. AI only) must not hold the execution slot while other games wait
+                                GameExecutionSlots.yieldToWaitingGames();
                                 // resetPassed should be called if player performs any action
                                 if (player.priority(this)) {
                                     //assert (player.getLastActivated()!= null);
@@ -3343,6 +3369,14 @@ public abstract class GameImpl implements Game {
         fireInformEvent(message);
     }
 
+    @Override
+    public void informPlayers(Supplier<String> message) {
+        if (simulation) {
+            return;
+        }
+        informPlayers(message.get());
+    }
+
     @Override
     public void debugMessage(String message) {
         logger.warn(message);
@@ -3908,6 +3942,7 @@ public abstract class GameImpl implements Game {
 
     @Override
     public void cheat(UUID ownerId, Map<Zone, String> commands) {
+        state.markChanged();
         if (commands != null) {
             Player player = getPlayer(ownerId);
             if (player != null) {
@@ -3959,6 +3994,7 @@ public abstract class GameImpl implements Game {
         Ability fakeSourceAbilityTemplate = new SimpleStaticAbility(Zone.OUTSIDE, new InfoEffect("fake ability"));
         fakeSourceAbilityTemplate.setControllerId(ownerId);
 
+        state.markChanged();
         Player player = getPlayer(ownerId);
         if (player != null) {
             // init cards
@@ -12,6 +12,7 @@ import mage.constants.TurnPhase;
 import mage.constants.Zone;
 import mage.designations.Designation;
 import mage.filter.common.FilterCreaturePermanent;
+import mage.filter.predicate.FilterMatchCache;
 import mage.game.combat.Combat;
 import mage.game.combat.CombatGroup;
 import mage.game.command.Command;
@@ -72,7 +73,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     private final Map<UUID, LookedAt> lookedAt = new HashMap<>();
     private final Revealed companion;
 
-    public Random gameLocalRandom = new Random(); //for deterministic UUID generation
+    public Random gameLocalRandom = RandomUtil.createRandom(); //for deterministic UUID generation
     private SpecialActions specialActions;
     private Watchers watchers;
     private Turn turn;
@@ -119,6 +120,9 @@ public class GameState implements Serializable, Copyable<GameState> {
     public int priorityCounter = 0;
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
+    private long changeCounter; // Upcounting number of each possible state change (events, effects, restore), used by caches
+    private transient FilterMatchCache filterMatchCache; // characteristics checks, valid until next applyEffects
+    private transient int applyingEffects; // > 0 while layers are applied (can be recursive)
 
     public GameState() {
         players = new Players();
@@ -188,6 +192,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.copiedCards.putAll(state.copiedCards);
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.changeCounter = state.changeCounter;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay.addAll(state.commandersToStay);
@@ -244,6 +249,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void restore(GameState state) {
         // no needs in copy here cause GameState already copied on save and it will be used only one time here
+        this.changeCounter++; // must be different from restored state's counter, so it's not copied
         this.priorityCounter = state.priorityCounter;
         this.activePlayerId = state.activePlayerId;
         this.playerList.setCurrent(state.activePlayerId);
@@ -284,6 +290,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.filterMatchCache = null; // restored objects can have other characteristics
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay = state.commandersToStay;
@@ -687,13 +694,24 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     void applyEffects(Game game) {
         applyEffectsCounter++;
+        changeCounter++;
         for (Player player : players.values()) {
             player.reset();
         }
-        battlefield.reset(game);
-        combat.reset(game);
-        this.reset();
-        effects.apply(game);
+        // control and types can change in any layer, so battlefield indexes are unreliable until all layers are applied
+        battlefield.suspendIndexes();
+        filterMatchCache = null;
+        applyingEffects++;
+        try {
+            battlefield.reset(game);
+            combat.reset(game);
+            this.reset();
+            effects.apply(game);
+        } finally {
+            battlefield.resumeIndexes();
+            applyingEffects--;
+            filterMatchCache = null;
+        }
         combat.checkForRemoveFromCombat(game);
     }
 
@@ -822,6 +840,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void addSimultaneousEvent(GameEvent event, Game game) {
+        changeCounter++;
         simultaneousEvents.add(event);
     }
 
@@ -1057,6 +1076,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        changeCounter++;
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -1067,6 +1087,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        changeCounter++;
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -1708,6 +1729,37 @@ public class GameState implements Serializable, Copyable<GameState> {
         return applyEffectsCounter;
     }
 
+    /**
+     * Upcounting number of possible game changes: fired and replaced events, applied effects, restores.
+     * Same number means same game state, so it can be used as a key for calculation caches
+     * (e.g. playable abilities).
+     */
+    public long getChangeCounter() {
+        return changeCounter;
+    }
+
+    /**
+     * Must be called on any direct game change without events (e.g. cheats)
+     */
+    public void markChanged() {
+        changeCounter++;
+    }
+
+    /**
+     * Memo for characteristics based filter checks, see {@link mage.filter.predicate.CompiledPredicates}
+     *
+     * @return null while continuous effects are applied (characteristics are not final yet)
+     */
+    public FilterMatchCache getFilterMatchCache() {
+        if (applyingEffects > 0) {
+            return null;
+        }
+        if (filterMatchCache == null) {
+            filterMatchCache = new FilterMatchCache();
+        }
+        return filterMatchCache;
+    }
+
     public void addPowerInsteadOfToughnessForDamageLethalityFilter(UUID source, FilterCreaturePermanent filter) {
         usePowerInsteadOfToughnessForDamageLethalityFilters.put(source, filter);
     }
@@ -0,0 +1,108 @@
+package mage.game;
+
+import mage.abilities.ActivatedAbility;
+import mage.constants.Zone;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Cache for playable abilities calculation in one priority window.
+ * <p>
+ * Playable abilities depend on full game state only, so results are valid while
+ * {@link GameState#getChangeCounter()} stays the same. Any state change drops all results.
+ * <p>
+ * Stored abilities are independent copies, so each get returns new copies too (callers can modify it).
+ */
+public class PlayableCache {
+
+    // statistics for all games, e.g. for AI and server performance checks
+    private static final LongAdder totalHits = new LongAdder();
+    private static final LongAdder totalMisses = new LongAdder();
+
+    private final Map<String, List<ActivatedAbility>> playable = new HashMap<>();
+    private long changeCounter = -1;
+    private long hits;
+    private long misses;
+
+    /**
+     * @return playable abilities or null if it must be calculated
+     */
+    public synchronized List<ActivatedAbility> get(long currentChangeCounter, UUID playerId, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        if (changeCounter != currentChangeCounter) {
+            playable.clear();
+            changeCounter = currentChangeCounter;
+        }
+        List<ActivatedAbility> res = playable.get(makeKey(playerId, hidden, fromZone, hideDuplicatedAbilities));
+        if (res == null) {
+            misses++;
+            totalMisses.increment();
+            return null;
+        }
+        hits++;
+        totalHits.increment();
+        return copyAbilities(res);
+    }
+
+    public synchronized void put(long currentChangeCounter, UUID playerId, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities, List<ActivatedAbility> abilities) {
+        if (changeCounter != currentChangeCounter) {
+            playable.clear();
+            changeCounter = currentChangeCounter;
+        }
+        playable.put(makeKey(playerId, hidden, fromZone, hideDuplicatedAbilities), copyAbilities(abilities));
+    }
+
+    public synchronized void clear() {
+        playable.clear();
+        changeCounter = -1;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized double getHitRate() {
+        return getHitRate(hits, misses);
+    }
+
+    public static long getTotalHits() {
+        return totalHits.sum();
+    }
+
+    public static long getTotalMisses() {
+        return totalMisses.sum();
+    }
+
+    public static double getTotalHitRate() {
+        return getHitRate(totalHits.sum(), totalMisses.sum());
+    }
+
+    public static String getTotalStatistics() {
+        return String.format("playable cache: %d hits, %d misses, %.1f%% hit rate",
+                getTotalHits(), getTotalMisses(), getTotalHitRate() * 100);
+    }
+
+    private static double getHitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private static String makeKey(UUID playerId, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        return playerId + "-" + hidden + "-" + fromZone + "-" + hideDuplicatedAbilities;
+    }
+
+    private static List<ActivatedAbility> copyAbilities(List<ActivatedAbility> abilities) {
+        return abilities.stream()
+                .map(ActivatedAbility::copy)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -452,7 +452,7 @@ public class Combat implements Serializable, Copyable<Combat> {
                 }
             }
         }
-        if (!isBanded) {
+        if (!isBanded || game.isSimulation()) {
             return;
         }
         int bandSize = attacker.getBandedCards().size() + 1;
@@ -764,6 +764,9 @@ public class Combat implements Serializable, Copyable<Combat> {
      * Add info about attacker blocked by blocker to the game log
      */
     private void logBlockerInfo(Player defender, Game game) {
+        if (game.isSimulation()) {
+            return;
+        }
         boolean shownDefendingPlayer = game.getPlayers().size() <= 2; // 1 vs 1 game, no need to saw the attacked player
         for (CombatGroup group : game.getCombat().getGroups()) {
             if (group.defendingPlayerId.equals(defender.getId())) {
@@ -1647,7 +1650,7 @@ public class Combat implements Serializable, Copyable<Combat> {
         blockingGroups.remove(creatureId);
         if (result && withEvent) {
             game.fireEvent(GameEvent.getEvent(GameEvent.EventType.REMOVED_FROM_COMBAT, creatureId, null, null));
-            game.informPlayers(creature.getLogName() + " removed from combat");
+            game.informPlayers(() -> creature.getLogName() + " removed from combat");
         }
         return result;
     }
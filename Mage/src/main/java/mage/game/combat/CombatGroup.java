@@ -591,6 +591,9 @@ public class CombatGroup implements Serializable, Copyable<CombatGroup> {
     }
 
     private void logDamageAssignmentOrder(String prefix, List<UUID> assignedFor, List<UUID> assignedOrder, Game game) {
+        if (game.isSimulation()) {
+            return;
+        }
         StringBuilder sb = new StringBuilder(prefix);
         boolean first = true;
         for (UUID id : assignedFor) {
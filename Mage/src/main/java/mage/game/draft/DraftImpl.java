@@ -363,9 +363,12 @@ public abstract class DraftImpl implements Draft {
     protected void picksWait() {
         // main thread waiting any picks or changes
         synchronized (this) {
-            try {
-                this.wait(10000); // checked every 10s to make sure the draft moves on
-            } catch (InterruptedException ignore) {
+            // AI picks can be done before wait, so check it under lock to keep next pick without delay
+            if (!donePicking()) {
+                try {
+                    this.wait(10000); // checked every 10s to make sure the draft moves on
+                } catch (InterruptedException ignore) {
+                }
             }
         }
 
@@ -4,6 +4,7 @@ import mage.ApprovingObject;
 import mage.MageIdentifier;
 import mage.abilities.Ability;
 import mage.constants.Zone;
+import mage.util.RandomUtil;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -776,7 +777,7 @@ public class GameEvent implements Serializable {
         this.playerId = playerId;
         this.flag = flag;
         this.approvingObject = approvingObject;
-        this.id = UUID.randomUUID();
+        this.id = RandomUtil.randomUUID();
     }
 
     public EventType getType() {
@@ -4,7 +4,10 @@ import mage.abilities.Ability;
 import mage.abilities.keyword.PhasingAbility;
 import mage.constants.CardType;
 import mage.constants.RangeOfInfluence;
+import mage.constants.TargetController;
 import mage.filter.FilterPermanent;
+import mage.filter.predicate.Predicate;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
 import mage.game.Game;
 
 import java.io.Serializable;
@@ -19,6 +22,12 @@ public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
 
+    // secondary indexes over field (same order as field), built on demand and dropped on any change
+    // of battlefield content, control or types; never copied, a copy rebuilds its own on first use
+    private transient Map<UUID, List<Permanent>> controllerIndex;
+    private transient Map<CardType, List<Permanent>> typeIndex;
+    private transient int indexSuspended; // > 0 while layers are applied, indexes can't be trusted then
+
     public Battlefield() {
     }
 
@@ -33,6 +42,7 @@ public class Battlefield implements Serializable {
     }
 
     public void reset(Game game) {
+        invalidateIndexes();
         for (Permanent perm : field.values()) {
             perm.reset(game);
         }
@@ -40,6 +50,134 @@ public class Battlefield implements Serializable {
 
     public void clear() {
         field.clear();
+        invalidateIndexes();
+    }
+
+    /**
+     * Must be called before continuous effects are applied: control and types of
+     * permanents can change in any layer, so all queries fall back to a full scan
+     * until {@link #resumeIndexes()} is called.
+     */
+    public void suspendIndexes() {
+        indexSuspended++;
+        invalidateIndexes();
+    }
+
+    public void resumeIndexes() {
+        if (indexSuspended > 0) {
+            indexSuspended--;
+        }
+        invalidateIndexes();
+    }
+
+    /**
+     * Drops controller and type indexes, they will be rebuilt on next query
+     */
+    public void invalidateIndexes() {
+        controllerIndex = null;
+        typeIndex = null;
+    }
+
+    private Collection<Permanent> getControlledBy(UUID controllerId) {
+        if (indexSuspended > 0) {
+            return field.values();
+        }
+        Map<UUID, List<Permanent>> index = controllerIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (Permanent permanent : field.values()) {
+                index.computeIfAbsent(permanent.getControllerId(), k -> new ArrayList<>()).add(permanent);
+            }
+            controllerIndex = index;
+        }
+        return index.getOrDefault(controllerId, Collections.emptyList());
+    }
+
+    private Collection<Permanent> getOfType(CardType cardType, Game game) {
+        if (indexSuspended > 0) {
+            return field.values();
+        }
+        Map<CardType, List<Permanent>> index = typeIndex;
+        if (index == null) {
+            index = new EnumMap<>(CardType.class);
+            for (Permanent permanent : field.values()) {
+                for (CardType type : permanent.getCardType(game)) {
+                    if (type == null) {
+                        continue;
+                    }
+                    List<Permanent> list = index.computeIfAbsent(type, k -> new ArrayList<>());
+                    // types list can contain duplicates
+                    if (list.isEmpty() || list.get(list.size() - 1) != permanent) {
+                        list.add(permanent);
+                    }
+                }
+            }
+            typeIndex = index;
+        }
+        return index.getOrDefault(cardType, Collections.emptyList());
+    }
+
+    /**
+     * Same as {@link #getCandidates(FilterPermanent, UUID, Ability, Game)} but for
+     * filter.match(permanent, game) calls: ObjectSourcePlayer predicates are ignored
+     */
+    private Collection<Permanent> getCandidates(FilterPermanent filter, Game game) {
+        if (indexSuspended > 0) {
+            return field.values();
+        }
+        Collection<Permanent> candidates = field.values();
+        for (Predicate<? super Permanent> predicate : filter.getPredicates()) {
+            Collection<Permanent> indexed = null;
+            if (predicate instanceof CardType.CardTypePredicate) {
+                indexed = getOfType(((CardType.CardTypePredicate) predicate).getCardType(), game);
+            } else if (predicate instanceof ControllerIdPredicate) {
+                indexed = getControlledBy(((ControllerIdPredicate) predicate).getControllerId());
+            }
+            if (indexed != null && indexed.size() < candidates.size()) {
+                candidates = indexed;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the smallest set of permanents that can match the filter: filters
+     * with card type or controller predicates use the related index. The result
+     * keeps battlefield order and must still be checked by the filter itself.
+     */
+    private Collection<Permanent> getCandidates(FilterPermanent filter, UUID playerId, Ability source, Game game) {
+        Collection<Permanent> candidates = getCandidates(filter, game);
+        if (indexSuspended > 0) {
+            return candidates;
+        }
+        for (Predicate predicate : filter.getExtraPredicates()) {
+            if (!(predicate instanceof TargetController.ControllerPredicate)) {
+                continue;
+            }
+            UUID controllerId;
+            switch (((TargetController.ControllerPredicate) predicate).getController()) {
+                case YOU:
+                    controllerId = playerId;
+                    break;
+                case SOURCE_CONTROLLER:
+                    controllerId = source == null ? null : source.getControllerId();
+                    break;
+                case ACTIVE:
+                    controllerId = game.getActivePlayerId();
+                    break;
+                default:
+                    continue;
+            }
+            if (controllerId == null) {
+                // can't be used without player (e.g. source is null), keep full scan
+                continue;
+            }
+            Collection<Permanent> indexed = getControlledBy(controllerId);
+            if (indexed.size() < candidates.size()) {
+                candidates = indexed;
+            }
+        }
+        return candidates;
     }
 
     /**
@@ -51,7 +189,7 @@ public class Battlefield implements Serializable {
      * can use count() instead of countAll()
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
+        return (int) getControlledBy(controllerId)
                 .stream()
                 .filter(permanent -> permanent.isControlledBy(controllerId)
                         && filter.match(permanent, game)
@@ -66,14 +204,14 @@ public class Battlefield implements Serializable {
      */
     public int count(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return (int) field.values()
+            return (int) getCandidates(filter, sourcePlayerId, source, game)
                     .stream()
                     .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn())
                     .count();
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return (int) field.values()
+            return (int) getCandidates(filter, sourcePlayerId, source, game)
                     .stream()
                     .filter(permanent -> range.contains(permanent.getControllerId())
                             && filter.match(permanent, sourcePlayerId, source, game)
@@ -93,7 +231,7 @@ public class Battlefield implements Serializable {
      * @param controllerId controller and source can be different (from different players)
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
+        return getControlledBy(controllerId)
                 .stream()
                 .filter(permanent -> permanent.isControlledBy(controllerId)
                         && filter.match(permanent, controllerId, source, game)
@@ -112,13 +250,13 @@ public class Battlefield implements Serializable {
      */
     public boolean contains(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game, int num) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values().stream()
+            return getCandidates(filter, sourcePlayerId, source, game).stream()
                     .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn()).count() >= num;
 
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values().stream()
+            return getCandidates(filter, sourcePlayerId, source, game).stream()
                     .filter(permanent -> range.contains(permanent.getControllerId())
                             && filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn())
@@ -128,6 +266,7 @@ public class Battlefield implements Serializable {
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        invalidateIndexes();
     }
 
     /**
@@ -143,7 +282,9 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        if (field.remove(key) != null) {
+            invalidateIndexes();
+        }
     }
 
     /**
@@ -184,7 +325,7 @@ public class Battlefield implements Serializable {
      * the specified player id. The method ignores the range of influence.
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        return field.values()
+        return getControlledBy(controllerId)
                 .stream()
                 .filter(perm -> perm.isPhasedIn()
                         && perm.isControlledBy(controllerId))
@@ -198,7 +339,7 @@ public class Battlefield implements Serializable {
      */
     @Deprecated
     public List<Permanent> getAllActivePermanents(CardType type, Game game) {
-        return field.values()
+        return getOfType(type, game)
                 .stream()
                 .filter(perm -> perm.isPhasedIn() && perm.getCardType(game).contains(type))
                 .collect(Collectors.toList());
@@ -212,7 +353,7 @@ public class Battlefield implements Serializable {
      */
     @Deprecated
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, Game game) {
-        return field.values()
+        return getCandidates(filter, game)
                 .stream()
                 .filter(perm -> perm.isPhasedIn() && filter.match(perm, game))
                 .collect(Collectors.toList());
@@ -224,7 +365,7 @@ public class Battlefield implements Serializable {
      * ObjectSourcePlayer predicates in the filter
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
+        return getControlledBy(controllerId)
                 .stream()
                 .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
                 .collect(Collectors.toList());
@@ -243,14 +384,15 @@ public class Battlefield implements Serializable {
      * the specified player id and that match the supplied filter.
      */
     public List<Permanent> getActivePermanents(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
+        Collection<Permanent> candidates = getCandidates(filter, sourcePlayerId, source, game);
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values()
+            return candidates
                     .stream()
                     .filter(perm -> perm.isPhasedIn() && filter.match(perm, sourcePlayerId, source, game))
                     .collect(Collectors.toList());
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
+            return candidates
                     .stream()
                     .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId())
                             && filter.match(perm, sourcePlayerId, source, game)).collect(Collectors.toList());
@@ -279,7 +421,7 @@ public class Battlefield implements Serializable {
      * Returns controlled permanents with phasing ability that are phased in, so that they can be phased out
      */
     public List<Permanent> getPhasingOut(Game game, UUID controllerId) {
-        return field.values()
+        return getControlledBy(controllerId)
                 .stream()
                 .filter(perm -> perm.hasAbility(PhasingAbility.getInstance(), game)
                         && perm.isPhasedIn()
@@ -291,13 +433,14 @@ public class Battlefield implements Serializable {
      * Returns controlled permanents that are phased out, so that they can be phased in
      */
     public List<Permanent> getPhasedOut(UUID controllerId) {
-        return field.values()
+        return getControlledBy(controllerId)
                 .stream()
                 .filter(perm -> !perm.isPhasedIn() && perm.isControlledBy(controllerId))
                 .collect(Collectors.toList());
     }
 
     public void resetPermanentsControl() {
+        invalidateIndexes();
         for (Permanent perm : field.values()) {
             if (perm.isPhasedIn()) {
                 perm.resetControl();
@@ -321,8 +464,7 @@ public class Battlefield implements Serializable {
     }
 
     public int countTokens(UUID controllerId) {
-        return field
-                .values()
+        return getControlledBy(controllerId)
                 .stream()
                 .filter(Objects::nonNull)
                 .filter(PermanentToken.class::isInstance)
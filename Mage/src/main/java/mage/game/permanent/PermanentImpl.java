@@ -38,6 +38,7 @@ import mage.players.Player;
 import mage.target.TargetPlayer;
 import mage.util.CardUtil;
 import mage.util.GameLog;
+import mage.util.RandomUtil;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
 
@@ -726,7 +727,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             this.getPower().setModifiedBaseValue(orgCard.getPower().getValue());
             this.getToughness().setModifiedBaseValue(orgCard.getToughness().getValue());
         }
-        game.informPlayers(this.getLogName() + " transforms into " + this.getOtherFace().getLogName()
+        game.informPlayers(() -> this.getLogName() + " transforms into " + this.getOtherFace().getLogName()
                 + CardUtil.getSourceLogName(game, source, this.getId()));
         this.setTransformed(!this.transformed);
         this.transformCount++;
@@ -761,7 +762,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         if (!phasedIn && !replaceEvent(EventType.PHASE_IN, game) && (!onlyDirect || !indirectPhase)) {
             this.phasedIn = true;
             this.indirectPhase = false;
-            game.informPlayers(getLogName() + " phased in");
+            game.informPlayers(() -> getLogName() + " phased in");
             for (UUID attachedId : this.getAttachments()) {
                 Permanent attachedPerm = game.getPermanent(attachedId);
                 if (attachedPerm != null) {
@@ -791,7 +792,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             this.removeFromCombat(game);
             this.phasedIn = false;
             this.indirectPhase = indirectPhase;
-            game.informPlayers(getLogName() + " phased out");
+            game.informPlayers(() -> getLogName() + " phased out");
             fireEvent(EventType.PHASED_OUT, game);
             return true;
         }
@@ -1161,11 +1162,10 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             }
             dealtDamageByThisTurn.add(new MageObjectReference(attacker, game));
         }
-        if (attacker == null) {
-            game.informPlayers(getLogName() + " gets " + actualDamageDone + " damage");
-        } else {
-            game.informPlayers(attacker.getLogName() + " deals " + actualDamageDone + " damage to " + getLogName());
-        }
+        MageObject damageSource = attacker;
+        game.informPlayers(() -> damageSource == null
+                ? getLogName() + " gets " + actualDamageDone + " damage"
+                : damageSource.getLogName() + " deals " + actualDamageDone + " damage to " + getLogName());
         return actualDamageDone;
     }
 
@@ -1419,18 +1419,12 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             // this means destroy was successful, if object movement to graveyard will be replaced (e.g. commander to command zone) it's still
             // handled as successful destroying (but not as successful "dies this way" for destroying).
             if (moveToZone(Zone.GRAVEYARD, source, game, false)) {
-                String logName;
-                Card card = game.getCard(this.getId());
-                if (card != null) {
-                    logName = card.getLogName();
-                } else {
-                    logName = this.getLogName();
-                }
-                if (this.isCreature(game)) {
-                    game.informPlayers(logName + " died" + CardUtil.getSourceLogName(game, " by ", source, "", ""));
-                } else {
-                    game.informPlayers(logName + " was destroyed" + CardUtil.getSourceLogName(game, " by ", source, "", ""));
-                }
+                game.informPlayers(() -> {
+                    Card card = game.getCard(this.getId());
+                    String logName = card != null ? card.getLogName() : this.getLogName();
+                    return logName + (this.isCreature(game) ? " died" : " was destroyed")
+                            + CardUtil.getSourceLogName(game, " by ", source, "", "");
+                });
                 game.fireEvent(GameEvent.getEvent(GameEvent.EventType.DESTROYED_PERMANENT, objectId, source, controllerId));
             }
             return true;
@@ -1447,7 +1441,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             moveToZone(Zone.GRAVEYARD, source, game, false);
             Player player = game.getPlayer(getControllerId());
             if (player != null) {
-                game.informPlayers(player.getLogName() + " sacrificed " + this.getLogName() + CardUtil.getSourceLogName(game, source));
+                game.informPlayers(() -> player.getLogName() + " sacrificed " + this.getLogName() + CardUtil.getSourceLogName(game, source));
             }
             SacrificedPermanentEvent sacrificedPermanentEvent = new SacrificedPermanentEvent(objectId, source, controllerId);
             game.fireEvent(sacrificedPermanentEvent);
@@ -2063,7 +2057,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             Set<MageObjectReference> morSet = new HashSet<>();
             morSet.add(new MageObjectReference(this, game));
             morSet.add(new MageObjectReference(fightTarget, game));
-            String data = UUID.randomUUID().toString();
+            String data = RandomUtil.randomUUID().toString();
             game.getState().setValue("batchFight_" + data, morSet);
             game.fireEvent(GameEvent.getEvent(GameEvent.EventType.BATCH_FIGHT, getId(), source, source.getControllerId(), data, 0));
         }
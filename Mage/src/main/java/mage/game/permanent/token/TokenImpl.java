@@ -456,11 +456,9 @@ public abstract class TokenImpl extends MageObjectImpl implements Token {
                 }
 
                 // game logs
-                if (created) {
-                    game.informPlayers(controller.getLogName() + " creates a " + permanent.getLogName() + " token");
-                } else {
-                    game.informPlayers(permanent.getLogName() + " enters the battlefield as a token under " + controller.getLogName() + "'s control'");
-                }
+                game.informPlayers(() -> created
+                        ? controller.getLogName() + " creates a " + permanent.getLogName() + " token"
+                        : permanent.getLogName() + " enters the battlefield as a token under " + controller.getLogName() + "'s control'");
             }
         }
         CreatedTokensEvent.addEvents(allAddedTokens, source, game);
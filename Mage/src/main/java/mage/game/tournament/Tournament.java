@@ -59,6 +59,11 @@ public interface Tournament {
 
     void quit(UUID playerId);
 
+    /**
+     * Signal from sub table about finished match, so current round can go on without delay
+     */
+    void matchEnded();
+
     void leave(UUID playerId);
 
     void nextStep();
@@ -14,10 +14,14 @@ import mage.game.result.ResultProtos.*;
 import mage.players.Player;
 import mage.players.PlayerType;
 import mage.util.RandomUtil;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  *
@@ -27,6 +31,14 @@ public abstract class TournamentImpl implements Tournament {
 
     private static final Logger logger = Logger.getLogger(TournamentImpl.class);
 
+    private static final int ROUND_CHECK_TIMEOUT_MS = 10000; // matches send end signal, but check it anyway to make sure the round moves on
+
+    // shared by all tournaments: humans construct by client, so it runs AI deck building only
+    private static final ExecutorService constructExecutor = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()),
+            new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY_CONSTRUCT)
+    );
+
     protected UUID id = UUID.randomUUID();
     protected UUID tableId = null; // assign on table create
     protected List<Round> rounds = new CopyOnWriteArrayList<>();
@@ -45,6 +57,7 @@ public abstract class TournamentImpl implements Tournament {
     protected boolean abort;
     protected String tournamentState;
     protected Draft draft;
+    private int endedMatches = 0; // sub tables signals, guarded by this
 
     protected TournamentImpl(TournamentOptions options) {
         this.options = options;
@@ -125,6 +138,14 @@ public abstract class TournamentImpl implements Tournament {
         }
     }
 
+    @Override
+    public void matchEnded() {
+        synchronized (this) {
+            endedMatches++;
+            this.notifyAll();
+        }
+    }
+
     // can only be used, if tournament did not start yet?
     @Override
     public void leave(UUID playerId) {
@@ -212,14 +233,25 @@ public abstract class TournamentImpl implements Tournament {
             playMatch(pair);
         }
         updateResults(); // show points from byes
-        while (!round.isRoundOver()) {
-            try {
-                //TODO: improve this
-                Thread.sleep(1000);
-            } catch (InterruptedException ex) {
-                Logger.getLogger(TournamentImpl.class).warn("TournamentImpl playRound error ", ex);
+        while (true) {
+            int checkedMatches;
+            synchronized (this) {
+                checkedMatches = endedMatches;
+            }
+            if (round.isRoundOver()) {
                 break;
             }
+            // wait for the next ended match (signals after the check above don't get lost)
+            synchronized (this) {
+                if (endedMatches == checkedMatches) {
+                    try {
+                        this.wait(ROUND_CHECK_TIMEOUT_MS);
+                    } catch (InterruptedException ex) {
+                        logger.warn("TournamentImpl playRound error ", ex);
+                        break;
+                    }
+                }
+            }
         }
         updateResults();
     }
@@ -372,9 +404,13 @@ public abstract class TournamentImpl implements Tournament {
             for (final TournamentPlayer player : players.values()) {
 
                 player.setConstructing();
-                new Thread(
-                        () -> player.getPlayer().construct(TournamentImpl.this, player.getDeck())
-                ).start();
+                constructExecutor.execute(() -> {
+                    try {
+                        player.getPlayer().construct(TournamentImpl.this, player.getDeck());
+                    } catch (Exception e) {
+                        logger.error("Can't construct deck for player " + player.getPlayer().getName() + ": " + e.getMessage(), e);
+                    }
+                });
             }
             // add autosubmit trigger
 
@@ -16,6 +16,7 @@ import mage.abilities.effects.RestrictionEffect;
 import mage.abilities.effects.RestrictionUntapNotMoreThanEffect;
 import mage.abilities.keyword.*;
 import mage.abilities.mana.ActivatedManaAbilityImpl;
+import mage.abilities.mana.CompactManaOptions;
 import mage.abilities.mana.ManaAbility;
 import mage.abilities.mana.ManaOptions;
 import mage.cards.*;
@@ -1114,7 +1115,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         if (cards.isEmpty()) {
             return true;
         }
-        game.informPlayers(getLogName() + " shuffles " + CardUtil.numberToText(cards.size(), "a")
+        game.informPlayers(() -> getLogName() + " shuffles " + CardUtil.numberToText(cards.size(), "a")
                 + " card" + (cards.size() == 1 ? "" : "s")
                 + " into their library" + CardUtil.getSourceLogName(game, source));
         boolean status = moveCards(cards, Zone.LIBRARY, source, game);
@@ -2446,7 +2447,7 @@ public abstract class PlayerImpl implements Player, Serializable {
                 int preventedDamage = event.getAmount();
                 event.setAmount(0);
                 game.fireEvent(new PreventedDamageEvent(playerId, attackerId, source, playerId, preventedDamage));
-                game.informPlayers(preventedDamage + " damage from " + attacker.getLogName() + " to " + getLogName()
+                game.informPlayers(() -> preventedDamage + " damage from " + attacker.getLogName() + " to " + getLogName()
                         + (preventedDamage > 1 ? " were" : "was") + " prevented because of protection");
                 return 0;
             }
@@ -3032,7 +3033,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         if (card == null) {
             return false;
         }
-        game.informPlayers(this.getLogName() + " seeks a card from their library");
+        game.informPlayers(() -> this.getLogName() + " seeks a card from their library");
         this.moveCards(card, Zone.HAND, source, game);
         return true;
     }
@@ -3621,8 +3622,23 @@ public abstract class PlayerImpl implements Player, Serializable {
             }
         }
 
-        for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
-            availableMana.addMana(manaAbilities, game);
+        ManaOptions compactMana = null;
+        if (CompactManaOptions.isEnabled() && manaPool.getConditionalMana().isEmpty()) {
+            compactMana = CompactManaOptions.calculate(manaPool.getMana(), sourceWithoutManaCosts, game);
+            if (compactMana == null) {
+                // unsupported by compact calculation, e.g. triggered mana, so use the default one on the same simulation and sources
+                Player simPlayer = game.getPlayer(playerId);
+                if (simPlayer != null) {
+                    simPlayer.getAvailableTriggeredMana().clear();
+                }
+            }
+        }
+        if (compactMana != null) {
+            availableMana = compactMana;
+        } else {
+            for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
+                availableMana.addMana(manaAbilities, game);
+            }
         }
 
         boolean anAbilityWasUsed = true;
@@ -4289,6 +4305,14 @@ public abstract class PlayerImpl implements Player, Serializable {
             return playable;
         }
 
+        // same priority window and no game changes - same result (e.g. AI and GUI ask it multiple times)
+        PlayableCache playableCache = originalGame.getPlayableCache();
+        long changeCounter = originalGame.getState().getChangeCounter();
+        List<ActivatedAbility> cached = playableCache.get(changeCounter, playerId, hidden, fromZone, hideDuplicatedAbilities);
+        if (cached != null) {
+            return cached;
+        }
+
         Game game = originalGame.createSimulationForPlayableCalc();
         ManaOptions availableMana = getManaAvailable(game); // get available mana options (mana pool and conditional mana added (but conditional still lose condition))
         boolean fromAll = fromZone.equals(Zone.ALL);
@@ -4459,9 +4483,11 @@ public abstract class PlayerImpl implements Player, Serializable {
         }
 
         // make sure it independent of sim game
-        return playable.stream()
+        List<ActivatedAbility> res = playable.stream()
                 .map(ActivatedAbility::copy)
                 .collect(Collectors.toList());
+        playableCache.put(changeCounter, playerId, hidden, fromZone, hideDuplicatedAbilities, res);
+        return res;
     }
 
     /**
@@ -5497,7 +5523,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         if (game.replaceEvent(event)) {
             return false;
         }
-        game.informPlayers(getLogName() + " scries " + event.getAmount() + CardUtil.getSourceLogName(game, source));
+        game.informPlayers(() -> getLogName() + " scries " + event.getAmount() + CardUtil.getSourceLogName(game, source));
         Cards cards = new CardsImpl();
         cards.addAllCards(getLibrary().getTopCards(game, event.getAmount()));
         if (!cards.isEmpty()) {
@@ -5525,7 +5551,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         if (game.replaceEvent(event) || event.getAmount() < 1) {
             return SurveilResult.noSurveil();
         }
-        game.informPlayers(getLogName() + " surveils " + event.getAmount() + CardUtil.getSourceLogName(game, source));
+        game.informPlayers(() -> getLogName() + " surveils " + event.getAmount() + CardUtil.getSourceLogName(game, source));
         Cards cards = new CardsImpl();
         cards.addAllCards(getLibrary().getTopCards(game, event.getAmount()));
         int totalCount = cards.size();
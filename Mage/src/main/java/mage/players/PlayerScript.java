@@ -16,7 +16,7 @@ public class PlayerScript {
     public ArrayDeque<String> choiceSequence;
     //binary decisions
     public ArrayDeque<Boolean> useSequence;
-    //for priority abilities
+    //for priority abilities, shared between scripts and must not be changed (replay activates a copy)
     public ArrayDeque<Ability> prioritySequence;
     //for mode decisions
     public ArrayDeque<Integer> numSequence;
@@ -32,9 +32,6 @@ public class PlayerScript {
     }
     public PlayerScript(List<Ability> prio, List<Integer> mode, List<UUID> target, List<String> choice, List<Boolean> use) {
         prioritySequence = new ArrayDeque<>(prio);
-        for(Ability a : prio) {//need to copy ability for certain edge cases unfortunately
-            this.prioritySequence.add(a.copy());
-        }
         useSequence = new ArrayDeque<>(use);
         targetSequence = new ArrayDeque<>(target);
         choiceSequence = new ArrayDeque<>(choice);
@@ -42,11 +39,7 @@ public class PlayerScript {
     }
 
     public PlayerScript(PlayerScript playerScript) {
-        //prioritySequence = new ArrayDeque<>(playerScript.prioritySequence);
-        prioritySequence = new ArrayDeque<>();
-        for(Ability a : playerScript.prioritySequence) {//need to copy ability for certain edge cases unfortunately
-            this.prioritySequence.add(a.copy());
-        }
+        prioritySequence = new ArrayDeque<>(playerScript.prioritySequence);
         useSequence = new ArrayDeque<>(playerScript.useSequence);
         targetSequence = new ArrayDeque<>(playerScript.targetSequence);
         choiceSequence = new ArrayDeque<>(playerScript.choiceSequence);
@@ -58,10 +51,7 @@ public class PlayerScript {
         this.choiceSequence.addAll(playerScript.choiceSequence);
         this.useSequence.addAll(playerScript.useSequence);
         this.numSequence.addAll(playerScript.numSequence);
-        //this.prioritySequence.addAll(playerScript.prioritySequence);
-        for(Ability a : playerScript.prioritySequence) {//need to copy ability for certain edge cases unfortunately
-            this.prioritySequence.add(a.copy());
-        }
+        this.prioritySequence.addAll(playerScript.prioritySequence);
         return this;
     }
     public void clear() {
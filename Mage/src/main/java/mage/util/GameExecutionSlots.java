@@ -0,0 +1,206 @@
+package mage.util;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server side limit for really running games (one slot per game thread).
+ * <p>
+ * It's slot accounting only, not a game suspend: game thread holds a slot while it processes
+ * the game and releases it while waiting for a human feedback (the thread stays blocked with
+ * its stack), so waiting games don't take CPU capacity and a server can keep more opened games
+ * than a max running games limit. Game threads itself are limited by the server's game executor.
+ * <p>
+ * Games without human waits (e.g. AI vs AI) never park, so running games give the slot to waiting
+ * games after {@link #SLOT_TIME_MS} on each priority (see {@link #yieldToWaitingGames()}). Slots queue
+ * is fair (FIFO), so new, resumed and yielded games take turns and can't be starved by long games.
+ * <p>
+ * Works for GAME threads only, no limits by default (tests, AI simulations, etc).
+ */
+public final class GameExecutionSlots {
+
+    // min running time before the slot goes to a waiting game
+    public static final long SLOT_TIME_MS = 200;
+    private static final long SLOT_TIME_NANOS = TimeUnit.MILLISECONDS.toNanos(SLOT_TIME_MS);
+
+    private static volatile Semaphore slots = null;
+    private static volatile int maxRunningGames = 0;
+
+    private static final ThreadLocal<Semaphore> holdingSlot = new ThreadLocal<>();
+    private static final ThreadLocal<Semaphore> parkedSlot = new ThreadLocal<>();
+    private static final AtomicInteger runningGames = new AtomicInteger();
+    private static final AtomicInteger parkedGames = new AtomicInteger();
+
+    private static final ThreadLocal<Long> runningSince = new ThreadLocal<>();
+
+    // server metrics
+    private static volatile TimingListener timingListener = null;
+
+    /**
+     * Game threads timing, all durations in nanos
+     */
+    public interface TimingListener {
+
+        /**
+         * Wait for a free slot on game start
+         */
+        void onStartWait(long nanos);
+
+        /**
+         * Wait for a free slot after a human feedback
+         */
+        void onResumeWait(long nanos);
+
+        /**
+         * Game processing with a slot (from start, resume or yield to park, yield or end)
+         */
+        void onRunning(long nanos);
+    }
+
+    private GameExecutionSlots() {
+    }
+
+    /**
+     * Setup max running games, must be called before any game start
+     *
+     * @param maxGames 0 for unlimited
+     */
+    public static void setMaxRunningGames(int maxGames) {
+        maxRunningGames = Math.max(0, maxGames);
+        slots = maxRunningGames > 0 ? new Semaphore(maxRunningGames, true) : null;
+    }
+
+    public static void setTimingListener(TimingListener listener) {
+        timingListener = listener;
+    }
+
+    public static int getMaxRunningGames() {
+        return maxRunningGames;
+    }
+
+    /**
+     * Game thread starts the game processing (wait a free slot)
+     */
+    public static void enter() {
+        Semaphore current = slots;
+        if (current == null || holdingSlot.get() != null) {
+            return;
+        }
+        long waitStart = System.nanoTime();
+        current.acquireUninterruptibly();
+        holdingSlot.set(current);
+        runningGames.incrementAndGet();
+        long waitNanos = startRunning() - waitStart;
+        TimingListener listener = timingListener;
+        if (listener != null) {
+            listener.onStartWait(waitNanos);
+        }
+    }
+
+    /**
+     * Game thread ends the game processing
+     */
+    public static void exit() {
+        Semaphore current = holdingSlot.get();
+        if (current != null) {
+            stopRunning();
+            holdingSlot.remove();
+            runningGames.decrementAndGet();
+            current.release();
+        }
+        if (parkedSlot.get() != null) {
+            parkedSlot.remove();
+            parkedGames.decrementAndGet();
+        }
+    }
+
+    /**
+     * Game starts waiting for a human feedback, so other games can use the slot
+     */
+    public static void park() {
+        Semaphore current = holdingSlot.get();
+        if (current == null) {
+            return;
+        }
+        stopRunning();
+        holdingSlot.remove();
+        parkedSlot.set(current);
+        runningGames.decrementAndGet();
+        parkedGames.incrementAndGet();
+        current.release();
+    }
+
+    /**
+     * Game got a human feedback and continues the processing (wait a free slot)
+     */
+    public static void resume() {
+        Semaphore current = parkedSlot.get();
+        if (current == null) {
+            return;
+        }
+        long waitStart = System.nanoTime();
+        current.acquireUninterruptibly();
+        parkedSlot.remove();
+        holdingSlot.set(current);
+        parkedGames.decrementAndGet();
+        runningGames.incrementAndGet();
+        long waitNanos = startRunning() - waitStart;
+        TimingListener listener = timingListener;
+        if (listener != null) {
+            listener.onResumeWait(waitNanos);
+        }
+    }
+
+    /**
+     * Game thread is between game decisions (e.g. before priority). If other games wait for a slot
+     * and this game used its slot time, then it goes to the end of the slots queue.
+     */
+    public static void yieldToWaitingGames() {
+        Semaphore current = holdingSlot.get();
+        if (current == null || !current.hasQueuedThreads()) {
+            return;
+        }
+        Long since = runningSince.get();
+        if (since != null && System.nanoTime() - since < SLOT_TIME_NANOS) {
+            return;
+        }
+        stopRunning();
+        runningGames.decrementAndGet();
+        current.release();
+        current.acquireUninterruptibly();
+        runningGames.incrementAndGet();
+        startRunning();
+    }
+
+    private static long startRunning() {
+        long now = System.nanoTime();
+        runningSince.set(now);
+        return now;
+    }
+
+    private static void stopRunning() {
+        Long since = runningSince.get();
+        if (since == null) {
+            return;
+        }
+        runningSince.remove();
+        TimingListener listener = timingListener;
+        if (listener != null) {
+            listener.onRunning(System.nanoTime() - since);
+        }
+    }
+
+    public static int getRunningGames() {
+        return runningGames.get();
+    }
+
+    public static int getParkedGames() {
+        return parkedGames.get();
+    }
+
+    public static int getWaitingGames() {
+        Semaphore current = slots;
+        return current == null ? 0 : current.getQueueLength();
+    }
+}
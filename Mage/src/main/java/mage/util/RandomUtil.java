@@ -4,6 +4,9 @@ import java.awt.Color;
 import java.io.*;
 import java.util.Collection;
 import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 /**
  * A thread-safe utility class for random number generation.
@@ -25,6 +28,16 @@ public final class RandomUtil {
      */
     private static final ThreadLocal<Random> threadLocalRandom = ThreadLocal.withInitial(Random::new);
 
+    /**
+     * Ids source of the deterministic mode (null - normal mode with real random ids).
+     *
+     * Ids use own sequence, so the amount of created objects does not change the
+     * random draws of the game and vice versa.
+     */
+    private static final ThreadLocal<Random> threadLocalIdRandom = new ThreadLocal<>();
+
+    private static final long ID_SEED_SALT = 0x5DEECE66DL;
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -104,6 +117,95 @@ public final class RandomUtil {
         threadLocalRandom.get().setSeed(newSeed);
     }
 
+    /**
+     * Enables deterministic mode for the current thread: random draws, new object ids
+     * and game local randoms come from the given seed, so the same seed, decks and
+     * config replay the identical game (and the identical AI search trees).
+     * <p>
+     * Must be called before the game creation (cards load) and cleared after the game.
+     *
+     * @param seed game seed
+     */
+    public static void setDeterministicSeed(long seed) {
+        setSeed(seed);
+        threadLocalIdRandom.set(new Random(seed ^ ID_SEED_SALT));
+    }
+
+    /**
+     * Disables deterministic mode for the current thread (ids will be real random again)
+     */
+    public static void clearDeterministicSeed() {
+        threadLocalIdRandom.remove();
+    }
+
+    public static boolean isDeterministic() {
+        return threadLocalIdRandom.get() != null;
+    }
+
+    /**
+     * New object id, use it instead UUID.randomUUID() for any game related objects
+     * (cards, abilities, effects, events, etc)
+     *
+     * @return random UUID or seeded UUID in deterministic mode
+     */
+    public static UUID randomUUID() {
+        Random idRandom = threadLocalIdRandom.get();
+        if (idRandom == null) {
+            return UUID.randomUUID();
+        }
+        // same format as random UUID (version 4, IETF variant)
+        long most = (idRandom.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (idRandom.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    /**
+     * New independent random generator (e.g. game local random), seeded in deterministic mode
+     */
+    public static Random createRandom() {
+        Random idRandom = threadLocalIdRandom.get();
+        return idRandom == null ? new Random() : new Random(idRandom.nextLong());
+    }
+
+    /**
+     * Runs code without deterministic ids, e.g. for shared objects like caches and prototypes
+     * (such objects must not consume the game's ids sequence)
+     */
+    public static <T> T callWithRandomIds(Supplier<T> code) {
+        Random idRandom = threadLocalIdRandom.get();
+        if (idRandom == null) {
+            return code.get();
+        }
+        threadLocalIdRandom.remove();
+        try {
+            return code.get();
+        } finally {
+            threadLocalIdRandom.set(idRandom);
+        }
+    }
+
+    /**
+     * Keeps deterministic mode for a task from another thread (e.g. AI simulations pool).
+     * Task's seed is taken at wrap time, so wrap it in the game thread.
+     *
+     * @return same task in normal mode or seeded task in deterministic mode
+     */
+    public static <T> Callable<T> wrapDeterministic(Callable<T> task) {
+        Random idRandom = threadLocalIdRandom.get();
+        if (idRandom == null) {
+            return task;
+        }
+        long taskSeed = idRandom.nextLong();
+        return () -> {
+            setDeterministicSeed(taskSeed);
+            try {
+                return task.call();
+            } finally {
+                clearDeterministicSeed();
+            }
+        };
+    }
+
     /**
      * Selects a random element from a given collection using the current thread's
      * Random instance.
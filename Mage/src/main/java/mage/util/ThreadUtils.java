@@ -19,9 +19,11 @@ public final class ThreadUtils {
     public final static String THREAD_PREFIX_AI_SIMULATION_MAD = "AI-SIM-MAD";
     public final static String THREAD_PREFIX_AI_SIMULATION_MCTS = "AI-SIM-MCTS";
     public final static String THREAD_PREFIX_CALL_REQUEST = "CALL";
+    public final static String THREAD_PREFIX_CALLBACK_SENDER = "SEND CALLBACK";
     public final static String THREAD_PREFIX_TOURNEY = "TOURNEY";
     public final static String THREAD_PREFIX_TOURNEY_DRAFT = "TOURNEY DRAFT";
     public final static String THREAD_PREFIX_TOURNEY_BOOSTERS_SEND = "TOURNEY BOOSTERS SEND";
+    public final static String THREAD_PREFIX_TOURNEY_CONSTRUCT = "TOURNEY CONSTRUCT";
 
     // game
     public final static String THREAD_PREFIX_GAME_JOIN_WAITING = "XMAGE game join waiting";
@@ -44,6 +46,7 @@ public final class ThreadUtils {
     public final static String THREAD_PREFIX_CLIENT_PING_SENDER = "XMAGE ping sender";
     public final static String THREAD_PREFIX_CLIENT_SUBMIT_TIMER = "XMAGE submit timer";
     public final static String THREAD_PREFIX_CLIENT_AUTO_CLOSE_TIMER = "XMAGE auto-close timer";
+    public final static String THREAD_PREFIX_CLIENT_JSON_LOG_WRITER = "XMAGE json game log writer";
 
     // tests
     public final static String THREAD_PREFIX_TESTS_AI_VS_AI_GAMES = "XMAGE tests ai vs ai";